@@ -0,0 +1,138 @@
+package com.tally.config;
+
+import com.tally.service.AuthService;
+import com.tally.service.BatchReportService;
+import com.tally.service.CodeOwnershipService;
+import com.tally.service.CommitDetailCache;
+import com.tally.service.ContributionAnalysisService;
+import com.tally.service.ContributionStatsCache;
+import com.tally.service.GitHubService;
+import com.tally.service.GitMirrorAnalysisService;
+import com.tally.service.OrganizationStatsService;
+import com.tally.service.PDFReportService;
+import com.tally.service.ReportGenerationService;
+import com.tally.service.RepositorySnapshotStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 서비스 빈 등록 (서비스 클래스는 Lambda와 공유하므로 직접 생성)
+ */
+@Configuration
+public class ServiceConfig {
+
+    @Bean
+    public GitHubService gitHubService() {
+        return new GitHubService();
+    }
+
+    @Bean
+    public AuthService authService(GitHubOAuthConfig gitHubOAuthConfig) {
+        return new AuthService(gitHubOAuthConfig.getClientId(), gitHubOAuthConfig.getClientSecret());
+    }
+
+    @Bean
+    public CommitDetailCache commitDetailCache(
+            @Value("${tally.role-analysis.detail-cache-size:5000}") int maxEntries) {
+        return new CommitDetailCache(maxEntries);
+    }
+
+    @Bean
+    public ContributionStatsCache contributionStatsCache(
+            @Value("${tally.analysis-cache.max-entries:500}") int maxEntries,
+            @Value("${tally.analysis-cache.dir:data/analysis-cache}") String directory,
+            @Value("${tally.analysis-cache.max-age-hours:24}") long maxAgeHours) {
+        return new ContributionStatsCache(maxEntries, directory, Duration.ofHours(maxAgeHours));
+    }
+
+    /**
+     * 분석 결과 캐시 지표 (/actuator/metrics/tally.analysis.cache.*)
+     */
+    @Bean
+    public MeterBinder contributionStatsCacheMetrics(ContributionStatsCache cache) {
+        return registry -> {
+            FunctionCounter.builder("tally.analysis.cache.requests", cache, ContributionStatsCache::memoryHits)
+                    .tag("result", "memory-hit")
+                    .register(registry);
+            FunctionCounter.builder("tally.analysis.cache.requests", cache, ContributionStatsCache::diskHits)
+                    .tag("result", "disk-hit")
+                    .register(registry);
+            FunctionCounter.builder("tally.analysis.cache.requests", cache, ContributionStatsCache::misses)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("tally.analysis.cache.stale", cache, ContributionStatsCache::staleEntries)
+                    .description("Entries invalidated because branch heads moved or max age passed")
+                    .register(registry);
+            Gauge.builder("tally.analysis.cache.hit.ratio", cache, ContributionStatsCache::hitRatio)
+                    .register(registry);
+            Gauge.builder("tally.analysis.cache.size", cache, ContributionStatsCache::size)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public ContributionAnalysisService contributionAnalysisService(
+            GitHubService gitHubService,
+            CommitDetailCache commitDetailCache,
+            ContributionStatsCache contributionStatsCache,
+            @Value("${tally.role-analysis.margin-of-error:0.10}") double marginOfError,
+            @Value("${tally.role-analysis.background-refinement:true}") boolean backgroundRefinement) {
+        return new ContributionAnalysisService(gitHubService, commitDetailCache, contributionStatsCache,
+                marginOfError, backgroundRefinement);
+    }
+
+    @Bean
+    public GitMirrorAnalysisService gitMirrorAnalysisService(
+            GitHubService gitHubService,
+            @Value("${tally.git-mirror.dir:data/git-mirrors}") String mirrorDirectory) {
+        return new GitMirrorAnalysisService(gitHubService, mirrorDirectory);
+    }
+
+    @Bean
+    public CodeOwnershipService codeOwnershipService(
+            GitMirrorAnalysisService gitMirrorAnalysisService,
+            @Value("${tally.ownership.parallelism:4}") int parallelism,
+            @Value("${tally.ownership.tree-cache-size:64}") int treeCacheSize,
+            @Value("${tally.ownership.file-cache-size:100000}") int fileCacheSize) {
+        return new CodeOwnershipService(gitMirrorAnalysisService, parallelism, treeCacheSize, fileCacheSize);
+    }
+
+    @Bean
+    public ReportGenerationService reportGenerationService(ContributionAnalysisService contributionAnalysisService) {
+        return new ReportGenerationService(contributionAnalysisService);
+    }
+
+    @Bean
+    public PDFReportService pdfReportService() {
+        return new PDFReportService();
+    }
+
+    @Bean
+    public BatchReportService batchReportService(
+            ContributionAnalysisService contributionAnalysisService,
+            PDFReportService pdfReportService,
+            @Value("${tally.batch-report.render-parallelism:4}") int renderParallelism) {
+        return new BatchReportService(contributionAnalysisService, pdfReportService, renderParallelism);
+    }
+
+    @Bean
+    public RepositorySnapshotStore repositorySnapshotStore(
+            @Value("${tally.org-stats.snapshot-dir:data/repo-snapshots}") String snapshotDir,
+            @Value("${tally.org-stats.snapshot-max-age-hours:168}") long maxAgeHours) {
+        return new RepositorySnapshotStore(snapshotDir, Duration.ofHours(maxAgeHours));
+    }
+
+    @Bean
+    public OrganizationStatsService organizationStatsService(
+            GitHubService gitHubService,
+            RepositorySnapshotStore repositorySnapshotStore,
+            @Value("${tally.org-stats.parallelism:8}") int parallelism) {
+        return new OrganizationStatsService(gitHubService, parallelism, repositorySnapshotStore);
+    }
+}
@@ -0,0 +1,95 @@
+package com.tally.controller;
+
+import com.tally.domain.CodeOwnership;
+import com.tally.domain.ContributionStats;
+import com.tally.service.CodeOwnershipService;
+import com.tally.service.ContributionAnalysisService;
+import com.tally.service.GitMirrorAnalysisService;
+import com.tally.util.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/analysis")
+@RequiredArgsConstructor
+public class AnalysisController {
+
+    private final ContributionAnalysisService analysisService;
+    private final GitMirrorAnalysisService gitMirrorAnalysisService;
+    private final CodeOwnershipService codeOwnershipService;
+
+    @Value("${tally.request-budget-ms:25000}")
+    private long requestBudgetMs;
+
+    /**
+     * GET 방식: URL 파라미터로 분석
+     * fullHistory=true면 로컬 git 미러로 전체 히스토리를 분석 (커밋당 API 호출 없음)
+     */
+    @GetMapping("/{owner}/{repo}")
+    public ResponseEntity<ContributionStats> analyzeContributionByPath(
+            @PathVariable String owner,
+            @PathVariable String repo,
+            @RequestParam(required = false) String username,
+            @RequestParam(defaultValue = "false") boolean fullHistory,
+            @RequestHeader("Authorization") String authorization) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Analyzing contribution for user {} in {}/{} (full history: {})", username, owner, repo, fullHistory);
+
+        ContributionStats stats = fullHistory
+                ? gitMirrorAnalysisService.analyzeContribution(
+                        accessToken, owner, repo, username, Deadline.after(requestBudgetMs))
+                : analysisService.analyzeContribution(
+                        accessToken, owner, repo, username, Deadline.after(requestBudgetMs));
+
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 현재 코드 소유권: 기본 브랜치 HEAD의 파일을 blame해서 작성자별/역할별로 살아남은 라인 수 집계
+     */
+    @GetMapping("/{owner}/{repo}/ownership")
+    public ResponseEntity<CodeOwnership> analyzeOwnership(
+            @PathVariable String owner,
+            @PathVariable String repo,
+            @RequestHeader("Authorization") String authorization) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Analyzing code ownership in {}/{}", owner, repo);
+
+        CodeOwnership ownership = codeOwnershipService.analyzeOwnership(
+                accessToken, owner, repo, Deadline.after(requestBudgetMs));
+
+        return ResponseEntity.ok(ownership);
+    }
+
+    /**
+     * POST 방식: Body로 분석 (기존 방식 유지)
+     */
+    @PostMapping("/analyze")
+    public ResponseEntity<ContributionStats> analyzeContribution(
+            @RequestBody Map<String, String> request,
+            @RequestHeader("Authorization") String authorization) {
+
+        String owner = request.get("owner");
+        String repo = request.get("repo");
+        String username = request.get("username");
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Analyzing contribution for user {} in {}/{}", username, owner, repo);
+
+        ContributionStats stats = analysisService.analyzeContribution(
+                accessToken, owner, repo, username, Deadline.after(requestBudgetMs)
+        );
+
+        return ResponseEntity.ok(stats);
+    }
+}
\ No newline at end of file
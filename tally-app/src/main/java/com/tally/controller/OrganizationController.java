@@ -0,0 +1,139 @@
+package com.tally.controller;
+
+import com.tally.domain.*;
+import com.tally.service.GitHubService;
+import com.tally.service.OrganizationStatsService;
+import com.tally.util.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/organizations")
+@RequiredArgsConstructor
+public class OrganizationController {
+
+    private static final long STREAM_TIMEOUT_MS = 5 * 60 * 1000L;
+    private static final long STREAM_SUMMARY_MARGIN_MS = 10 * 1000L;
+
+    private final GitHubService gitHubService;
+    private final OrganizationStatsService organizationStatsService;
+    private final AsyncTaskExecutor taskExecutor;
+
+    @Value("${tally.request-budget-ms:25000}")
+    private long requestBudgetMs;
+
+    /**
+     * 사용자가 속한 조직 목록 조회 (Grant 승인된 조직만)
+     */
+    @GetMapping
+    public ResponseEntity<List<Organization>> getUserOrganizations(
+            @RequestHeader("Authorization") String authorization) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+        log.info("Fetching organizations for user");
+
+        // ✅ API에서만 가져오기 (Grant 승인된 조직)
+        List<Organization> organizations = gitHubService.getUserOrganizations(accessToken);
+
+        log.info("Returning {} organizations", organizations.size());
+        return ResponseEntity.ok(organizations);
+    }
+
+    /**
+     * 특정 조직의 상세 정보 및 사용자 기여도 통계
+     */
+    @GetMapping("/{orgName}/stats")
+    public ResponseEntity<OrganizationStats> getOrganizationStats(
+            @PathVariable String orgName,
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam(required = false) String username,
+            @RequestParam(defaultValue = "0") int top) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+        log.info("Fetching stats for organization: {}, username: {}", orgName, username);
+
+        OrganizationStats stats = organizationStatsService.getOrganizationStats(
+                accessToken, orgName, username, top, Deadline.after(requestBudgetMs), null);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 조직 통계 스트리밍 (SSE)
+     * 레포지토리 하나가 끝날 때마다 repository / members 이벤트를 보내고 마지막에 summary 이벤트로 종료
+     */
+    @GetMapping(value = "/{orgName}/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrganizationStats(
+            @PathVariable String orgName,
+            @RequestHeader("Authorization") String authorization,
+            @RequestParam(required = false) String username,
+            @RequestParam(defaultValue = "0") int top) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+        log.info("Streaming stats for organization: {}, username: {}", orgName, username);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+
+        taskExecutor.execute(() -> {
+            try {
+                // summary 이벤트를 보낼 여유를 남기고 emitter 타임아웃 전에 집계 종료
+                Deadline deadline = Deadline.after(STREAM_TIMEOUT_MS - STREAM_SUMMARY_MARGIN_MS);
+                OrganizationStats stats = organizationStatsService.getOrganizationStats(accessToken, orgName, username,
+                        top, deadline, (contribution, teamMembers, completed, total) -> {
+                            try {
+                                emitter.send(SseEmitter.event()
+                                        .name("repository")
+                                        .id(String.valueOf(completed))
+                                        .data(contribution, MediaType.APPLICATION_JSON));
+                                emitter.send(SseEmitter.event()
+                                        .name("members")
+                                        .data(Map.of(
+                                                "completedRepositories", completed,
+                                                "totalRepositories", total,
+                                                "teamMembers", teamMembers
+                                        ), MediaType.APPLICATION_JSON));
+                            } catch (IOException e) {
+                                // 클라이언트 연결 종료 - 집계 중단
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+
+                emitter.send(SseEmitter.event()
+                        .name("summary")
+                        .data(stats, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (Exception e) {
+                log.warn("Organization stats stream for {} ended early: {}", orgName, e.getMessage());
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
+    /**
+     * 특정 조직의 레포지토리 목록 조회
+     */
+    @GetMapping("/{orgName}/repositories")
+    public ResponseEntity<List<GitHubRepository>> getOrganizationRepositories(
+            @PathVariable String orgName,
+            @RequestHeader("Authorization") String authorization) {
+
+        String accessToken = authorization.replace("Bearer ", "");
+        log.info("Fetching repositories for organization: {}", orgName);
+
+        List<GitHubRepository> repositories = gitHubService.getOrganizationRepositories(accessToken, orgName);
+        return ResponseEntity.ok(repositories);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.tally.controller;
+
+import com.tally.domain.ContributionStats;
+import com.tally.domain.Report;
+import com.tally.domain.ReportTarget;
+import com.tally.service.BatchReportService;
+import com.tally.service.ContributionAnalysisService;
+import com.tally.service.PDFReportService;
+import com.tally.service.ReportGenerationService;
+import com.tally.util.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportGenerationService reportService;
+    private final ContributionAnalysisService analysisService;
+    private final PDFReportService pdfReportService;
+    private final BatchReportService batchReportService;
+
+    @Value("${tally.request-budget-ms:25000}")
+    private long requestBudgetMs;
+
+    // 일괄 리포트는 최대 200개 대상을 스트리밍하므로 단일 요청 예산 대신 별도 예산 사용
+    @Value("${tally.batch-report.budget-ms:600000}")
+    private long batchBudgetMs;
+
+    @PostMapping("/markdown")
+    public ResponseEntity<String> generateMarkdownReport(
+            @RequestBody Map<String, String> request,
+            @RequestHeader("Authorization") String authorization) {
+
+        String owner = request.get("owner");
+        String repo = request.get("repo");
+        String username = request.get("username");
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Generating Markdown report for {}/{} - User: {}", owner, repo, username);
+
+        Report report = reportService.generateMarkdownReport(accessToken, owner, repo, username);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_PLAIN);
+        headers.setContentDispositionFormData("attachment", "contribution-report.md");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(report.getContent());
+    }
+
+    @PostMapping("/html")
+    public ResponseEntity<String> generateHtmlReport(
+            @RequestBody Map<String, String> request,
+            @RequestHeader("Authorization") String authorization) {
+
+        String owner = request.get("owner");
+        String repo = request.get("repo");
+        String username = request.get("username");
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Generating HTML report for {}/{} - User: {}", owner, repo, username);
+
+        Report report = reportService.generateHtmlReport(accessToken, owner, repo, username);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.TEXT_HTML);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(report.getContent());
+    }
+
+    /**
+     * PDF 리포트: 분석을 마친 뒤 응답 스트림에 바로 렌더링 (Base64/JSON 없이 application/pdf)
+     */
+    @PostMapping("/pdf")
+    public ResponseEntity<StreamingResponseBody> generatePdfReport(
+            @RequestBody Map<String, String> request,
+            @RequestHeader("Authorization") String authorization) {
+
+        String owner = request.get("owner");
+        String repo = request.get("repo");
+        String username = request.get("username");
+        String accessToken = authorization.replace("Bearer ", "");
+
+        log.info("Generating PDF report for {}/{} - User: {}", owner, repo, username);
+
+        // 분석 실패는 스트리밍 시작 전에 일반 오류 응답으로 처리
+        ContributionStats stats = analysisService.analyzeContribution(
+                accessToken, owner, repo, username, Deadline.after(requestBudgetMs));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(repo + "-contribution-report.pdf")
+                .build());
+
+        StreamingResponseBody body = out -> pdfReportService.writeReport(stats, out);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+
+    /**
+     * 여러 (레포지토리, 사용자) PDF 리포트를 ZIP으로 (레포지토리별 조회 1회, 병렬 렌더링, 완성된 문서부터 전송)
+     * 요청 본문: {"targets": [{"owner": "...", "repo": "...", "username": "..."}, ...]}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> generateBatchReport(
+            @RequestBody Map<String, List<ReportTarget>> request,
+            @RequestHeader("Authorization") String authorization) {
+
+        List<ReportTarget> targets = request.get("targets");
+        String accessToken = authorization.replace("Bearer ", "");
+
+        try {
+            BatchReportService.validate(targets);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected batch report request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        log.info("Generating batch PDF report for {} targets", targets.size());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("contribution-reports.zip")
+                .build());
+
+        // 마감 시간은 스트리밍 시작 시점부터 (분석은 ZIP을 기록하면서 진행)
+        StreamingResponseBody body = out -> batchReportService.writeZip(
+                accessToken, targets, Deadline.after(batchBudgetMs), out);
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(body);
+    }
+}
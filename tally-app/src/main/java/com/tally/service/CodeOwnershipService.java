@@ -0,0 +1,426 @@
+package com.tally.service;
+
+import com.tally.domain.CodeOwnership;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.BlameCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.blame.BlameResult;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 현재 코드 소유권 분석 (로컬 git 미러의 기본 브랜치 HEAD를 파일 단위로 blame)
+ *
+ * 파일별 blame은 fork-join 풀에서 병렬로 수행한다.
+ * - 트리 캐시: HEAD 커밋이 같으면 이전 결과를 그대로 반환 (blame 없음)
+ *   트리 SHA가 아니라 커밋으로 키를 잡는다. revert로 예전 트리로 돌아가도 blame은 새 커밋을 가리키기 때문이다.
+ * - 파일 캐시: (경로, blob, 그 경로를 마지막으로 바꾼 커밋)이 같으면 blame 결과도 같다.
+ *   blob만으로는 부족하다. revert로 예전 내용이 돌아오거나 히스토리를 다시 쓰면 blob은 같아도
+ *   라인의 출처 커밋이 달라진다. 마지막 커밋 ID는 그 조상 전체의 해시이므로 이런 경우 키가 바뀐다.
+ *   트리가 바뀌어도 이후 변경된 파일만 다시 blame한다.
+ */
+@Slf4j
+public class CodeOwnershipService {
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_TREE_CACHE_SIZE = 64;
+    public static final int DEFAULT_FILE_CACHE_SIZE = 100_000;
+
+    // 이보다 큰 파일은 생성된 파일/데이터로 보고 blame하지 않음
+    private static final int MAX_BLAME_BYTES = 1024 * 1024;
+    // fork-join 작업 하나가 직접 처리하는 파일 수
+    private static final int FILES_PER_TASK = 4;
+
+    private final GitMirrorAnalysisService gitMirrorAnalysisService;
+    private final ForkJoinPool blamePool;
+    private final Map<String, OwnershipTally> treeCache;
+    private final Map<String, FileBlame> fileCache;
+
+    public CodeOwnershipService(GitMirrorAnalysisService gitMirrorAnalysisService) {
+        this(gitMirrorAnalysisService, DEFAULT_PARALLELISM, DEFAULT_TREE_CACHE_SIZE, DEFAULT_FILE_CACHE_SIZE);
+    }
+
+    public CodeOwnershipService(GitMirrorAnalysisService gitMirrorAnalysisService, int parallelism,
+                                int treeCacheSize, int fileCacheSize) {
+        this.gitMirrorAnalysisService = gitMirrorAnalysisService;
+        this.blamePool = new ForkJoinPool(Math.max(1, parallelism));
+        this.treeCache = lruMap(treeCacheSize);
+        this.fileCache = lruMap(fileCacheSize);
+    }
+
+    /**
+     * 기본 브랜치 HEAD 기준 작성자별/역할별 소유 라인 분석
+     */
+    public CodeOwnership analyzeOwnership(String token, String owner, String repo, Deadline deadline) {
+        String fullName = owner + "/" + repo;
+        File mirror = gitMirrorAnalysisService.syncMirror(token, owner, repo, deadline);
+
+        try (Git git = Git.open(mirror)) {
+            Repository repository = git.getRepository();
+            ObjectId headId = repository.resolve(Constants.HEAD);
+            if (headId == null) {
+                throw new IllegalStateException("Repository " + fullName + " has no commits");
+            }
+
+            RevCommit head;
+            try (RevWalk walk = new RevWalk(repository)) {
+                head = walk.parseCommit(headId);
+            }
+            String treeKey = fullName + "@" + head.getName();
+
+            // 1. HEAD 커밋이 바뀌지 않았으면 blame 없이 반환
+            OwnershipTally cached;
+            synchronized (treeCache) {
+                cached = treeCache.get(treeKey);
+            }
+            if (cached != null) {
+                log.info("Ownership of {} reused for unchanged HEAD {}", fullName, head.getName());
+                return toOwnership(fullName, repository.getBranch(), head, cached, true);
+            }
+
+            // 2. HEAD 트리의 파일 목록
+            List<TreeFile> files = new ArrayList<>();
+            int unsupportedFiles = 0;
+            try (TreeWalk treeWalk = new TreeWalk(repository)) {
+                treeWalk.addTree(head.getTree());
+                treeWalk.setRecursive(true);
+                while (treeWalk.next()) {
+                    FileMode mode = treeWalk.getFileMode(0);
+                    if (mode == FileMode.REGULAR_FILE || mode == FileMode.EXECUTABLE_FILE) {
+                        files.add(new TreeFile(treeWalk.getPathString(), treeWalk.getObjectId(0)));
+                    } else {
+                        unsupportedFiles++;
+                    }
+                }
+            }
+
+            // 3. 파일 캐시 키에 쓸 경로별 마지막 변경 커밋
+            resolveLastCommits(repository, head, files, deadline);
+
+            // 4. 파일별 blame (fork-join 병렬)
+            long startedAt = System.currentTimeMillis();
+            OwnershipTally tally = blamePool.invoke(
+                    new BlameTask(repository, head, fullName, files, 0, files.size(), deadline));
+            tally.totalFiles = files.size() + unsupportedFiles;
+            tally.skippedFiles += unsupportedFiles;
+
+            log.info("Ownership of {} at {} - Files: {} (blamed {}, reused {}, skipped {}, unfinished {}), Lines: {}, {}ms",
+                    fullName, head.getName(), tally.totalFiles, tally.blamedFiles, tally.reusedFiles,
+                    tally.skippedFiles, tally.unfinishedFiles, tally.totalLines,
+                    System.currentTimeMillis() - startedAt);
+
+            // 일부 파일이 빠진 결과는 트리 캐시에 넣지 않음 (blame이 끝난 파일은 파일 캐시에 남아 다음 요청에서 재사용)
+            if (tally.unfinishedFiles == 0) {
+                synchronized (treeCache) {
+                    treeCache.put(treeKey, tally);
+                }
+            }
+            return toOwnership(fullName, repository.getBranch(), head, tally, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mirror for " + fullName, e);
+        }
+    }
+
+    private CodeOwnership toOwnership(String fullName, String branch, RevCommit head,
+                                      OwnershipTally tally, boolean cached) {
+        List<CodeOwnership.Owner> owners = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Long>> entry : tally.ownerRoleLines.entrySet()) {
+            long lines = 0;
+            for (long roleLines : entry.getValue().values()) {
+                lines += roleLines;
+            }
+            owners.add(CodeOwnership.Owner.builder()
+                    .name(entry.getKey())
+                    .lines(lines)
+                    .percentage(tally.totalLines > 0 ? (double) lines / tally.totalLines * 100 : 0.0)
+                    .roleLines(new TreeMap<>(entry.getValue()))
+                    .build());
+        }
+        owners.sort(Comparator.comparingLong(CodeOwnership.Owner::getLines).reversed()
+                .thenComparing(CodeOwnership.Owner::getName));
+
+        return CodeOwnership.builder()
+                .repositoryFullName(fullName)
+                .branch(branch)
+                .commitSha(head.getName())
+                .treeSha(head.getTree().getName())
+                .totalFiles(tally.totalFiles)
+                .blamedFiles(tally.blamedFiles)
+                .skippedFiles(tally.skippedFiles)
+                .reusedFiles(tally.reusedFiles)
+                .totalLines(tally.totalLines)
+                .roleLines(new TreeMap<>(tally.roleLines))
+                .owners(owners)
+                .analyzedAt(LocalDateTime.now())
+                .cached(cached)
+                .partial(tally.unfinishedFiles > 0)
+                .build();
+    }
+
+    /**
+     * 파일 하나를 blame해서 작성자별 라인 수 계산 (바이너리/대용량 파일은 SKIPPED)
+     */
+    FileBlame blame(Repository repository, RevCommit head, TreeFile file) throws IOException {
+        try (ObjectReader reader = repository.newObjectReader()) {
+            ObjectLoader loader = reader.open(file.blobId, Constants.OBJ_BLOB);
+            if (loader.getSize() > MAX_BLAME_BYTES || RawText.isBinary(loader.getCachedBytes(MAX_BLAME_BYTES))) {
+                return FileBlame.SKIPPED;
+            }
+        }
+
+        BlameResult result;
+        try {
+            result = new BlameCommand(repository)
+                    .setStartCommit(head)
+                    .setFilePath(file.path)
+                    .setTextComparator(RawTextComparator.DEFAULT)
+                    .call();
+        } catch (GitAPIException e) {
+            throw new IllegalStateException("Failed to blame " + file.path + ": " + e.getMessage(), e);
+        }
+        if (result == null) {
+            return FileBlame.SKIPPED;
+        }
+
+        Map<String, Integer> lines = new HashMap<>();
+        int lineCount = result.getResultContents().size();
+        for (int i = 0; i < lineCount; i++) {
+            lines.merge(ownerName(result.getSourceAuthor(i)), 1, Integer::sum);
+        }
+        return new FileBlame(FileRoleClassifier.categorize(file.path), lines);
+    }
+
+    /**
+     * GitHub noreply 이메일(12345+login@users.noreply.github.com)이면 로그인, 아니면 작성자 이름
+     */
+    static String ownerName(PersonIdent author) {
+        if (author == null) {
+            return "unknown";
+        }
+        String email = author.getEmailAddress();
+        if (email != null && email.toLowerCase().endsWith("@users.noreply.github.com")) {
+            String local = email.substring(0, email.indexOf('@'));
+            return local.substring(local.indexOf('+') + 1);
+        }
+        return author.getName();
+    }
+
+    private static <V> Map<String, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 파일 목록 [from, to) 구간을 반으로 나눠 병렬 blame
+     */
+    private class BlameTask extends RecursiveTask<OwnershipTally> {
+        private final Repository repository;
+        private final RevCommit head;
+        private final String fullName;
+        private final List<TreeFile> files;
+        private final int from;
+        private final int to;
+        private final Deadline deadline;
+
+        BlameTask(Repository repository, RevCommit head, String fullName, List<TreeFile> files,
+                  int from, int to, Deadline deadline) {
+            this.repository = repository;
+            this.head = head;
+            this.fullName = fullName;
+            this.files = files;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected OwnershipTally compute() {
+            if (to - from > FILES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                BlameTask left = new BlameTask(repository, head, fullName, files, from, mid, deadline);
+                left.fork();
+                OwnershipTally right = new BlameTask(repository, head, fullName, files, mid, to, deadline).compute();
+                OwnershipTally merged = left.join();
+                merged.merge(right);
+                return merged;
+            }
+
+            OwnershipTally tally = new OwnershipTally();
+            for (int i = from; i < to; i++) {
+                TreeFile file = files.get(i);
+                if (file.lastCommit == null) {
+                    // 마감 시간 안에 마지막 변경 커밋을 찾지 못한 파일 (캐시 키를 만들 수 없음)
+                    tally.unfinishedFiles++;
+                    continue;
+                }
+                String key = fullName + ":" + file.path + "@" + file.blobId.getName() + "@" + file.lastCommit.getName();
+
+                FileBlame blame;
+                synchronized (fileCache) {
+                    blame = fileCache.get(key);
+                }
+                if (blame != null) {
+                    tally.reusedFiles++;
+                    tally.add(blame);
+                    continue;
+                }
+
+                if (deadline.isExpired()) {
+                    tally.unfinishedFiles++;
+                    continue;
+                }
+
+                try {
+                    blame = blame(repository, head, file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to blame " + fullName + ":" + file.path, e);
+                }
+                synchronized (fileCache) {
+                    fileCache.put(key, blame);
+                }
+                if (blame != FileBlame.SKIPPED) {
+                    tally.blamedFiles++;
+                }
+                tally.add(blame);
+            }
+            return tally;
+        }
+    }
+
+    /**
+     * HEAD에서 첫 번째 부모를 따라 내려가며 경로별로 마지막으로 바꾼 커밋을 찾는다.
+     * blame도 파일이 같은 부모로 그대로 넘어가므로, 이 커밋 위쪽의 히스토리는 blame 결과에 영향이 없다.
+     * 변경된 서브트리만 비교하므로 비용은 커밋 수와 변경량에 비례하며, 모든 경로를 찾으면 바로 멈춘다.
+     * 마감 시간이 지나면 남은 파일은 lastCommit이 null인 채로 둔다.
+     */
+    void resolveLastCommits(Repository repository, RevCommit head, List<TreeFile> files,
+                            Deadline deadline) throws IOException {
+        Map<String, TreeFile> pending = new HashMap<>();
+        for (TreeFile file : files) {
+            pending.put(file.path, file);
+        }
+
+        try (RevWalk walk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository)) {
+            walk.setFirstParent(true);
+            walk.markStart(walk.parseCommit(head));
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(TreeFilter.ANY_DIFF);
+
+            RevCommit commit;
+            while (!pending.isEmpty() && (commit = walk.next()) != null) {
+                if (deadline.isExpired()) {
+                    return;
+                }
+                treeWalk.reset();
+                treeWalk.addTree(commit.getTree());
+                if (commit.getParentCount() > 0) {
+                    treeWalk.addTree(walk.parseCommit(commit.getParent(0)).getTree());
+                } else {
+                    treeWalk.addTree(new EmptyTreeIterator());
+                }
+                while (treeWalk.next()) {
+                    TreeFile file = pending.remove(treeWalk.getPathString());
+                    if (file != null) {
+                        file.lastCommit = commit.copy();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * HEAD 트리의 파일 (경로 + blob + 그 경로를 마지막으로 바꾼 커밋)
+     */
+    static class TreeFile {
+        final String path;
+        final ObjectId blobId;
+        ObjectId lastCommit;
+
+        TreeFile(String path, ObjectId blobId) {
+            this.path = path;
+            this.blobId = blobId;
+        }
+    }
+
+    /**
+     * 파일 하나의 blame 결과 (불변, 파일 캐시에 저장)
+     */
+    static class FileBlame {
+        static final FileBlame SKIPPED = new FileBlame(null, Collections.emptyMap());
+
+        final String role;
+        final Map<String, Integer> ownerLines;
+
+        FileBlame(String role, Map<String, Integer> ownerLines) {
+            this.role = role;
+            this.ownerLines = ownerLines;
+        }
+    }
+
+    /**
+     * blame 집계 상태 (작업마다 따로 만들고 join할 때 병합)
+     */
+    static class OwnershipTally {
+        private int totalFiles;
+        private int blamedFiles;
+        private int skippedFiles;
+        private int reusedFiles;
+        private int unfinishedFiles;
+        private long totalLines;
+        private final Map<String, Long> roleLines = new HashMap<>();
+        private final Map<String, Map<String, Long>> ownerRoleLines = new HashMap<>();
+
+        void add(FileBlame blame) {
+            if (blame == FileBlame.SKIPPED) {
+                skippedFiles++;
+                return;
+            }
+            for (Map.Entry<String, Integer> entry : blame.ownerLines.entrySet()) {
+                long lines = entry.getValue();
+                totalLines += lines;
+                roleLines.merge(blame.role, lines, Long::sum);
+                ownerRoleLines.computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                        .merge(blame.role, lines, Long::sum);
+            }
+        }
+
+        void merge(OwnershipTally other) {
+            blamedFiles += other.blamedFiles;
+            skippedFiles += other.skippedFiles;
+            reusedFiles += other.reusedFiles;
+            unfinishedFiles += other.unfinishedFiles;
+            totalLines += other.totalLines;
+            other.roleLines.forEach((role, lines) -> roleLines.merge(role, lines, Long::sum));
+            other.ownerRoleLines.forEach((owner, roles) -> {
+                Map<String, Long> target = ownerRoleLines.computeIfAbsent(owner, k -> new HashMap<>());
+                roles.forEach((role, lines) -> target.merge(role, lines, Long::sum));
+            });
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.tally.service;
+
+import com.tally.domain.AnalysisCoverage;
+import com.tally.domain.ContributionStats;
+import com.tally.domain.Issue;
+import com.tally.domain.PullRequest;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 로컬 git 미러 기반 기여도 분석 (전체 히스토리용)
+ *
+ * 레포지토리마다 bare 미러를 mirrorDirectory 아래에 유지하고, 요청 시 증분 fetch로 최신화한 뒤
+ * JGit으로 모든 브랜치의 커밋 그래프를 로컬에서 순회한다. 커밋/작성자/파일별 변경 라인/역할/언어를
+ * 커밋당 API 호출 없이 계산하며, GitHub API는 PR/Issue 목록 조회에만 사용한다.
+ */
+@Slf4j
+public class GitMirrorAnalysisService {
+    private static final String REMOTE_URL = "https://github.com/%s/%s.git";
+    private static final RefSpec BRANCH_REF_SPEC = new RefSpec("+refs/heads/*:refs/heads/*");
+
+    private final GitHubService gitHubService;
+    private final File mirrorDirectory;
+    private final String remoteUrl;  // owner, repo 순서의 String.format 패턴
+    private final Map<String, Object> mirrorLocks = new ConcurrentHashMap<>();
+
+    public GitMirrorAnalysisService(GitHubService gitHubService, String mirrorDirectory) {
+        this(gitHubService, mirrorDirectory, REMOTE_URL);
+    }
+
+    /**
+     * 원격 주소 패턴 지정 (테스트에서 file:// 로컬 레포지토리를 원격으로 사용)
+     */
+    GitMirrorAnalysisService(GitHubService gitHubService, String mirrorDirectory, String remoteUrl) {
+        this.gitHubService = gitHubService;
+        this.mirrorDirectory = new File(mirrorDirectory);
+        this.remoteUrl = remoteUrl;
+    }
+
+    /**
+     * 레포지토리 전체 히스토리 기여도 분석
+     */
+    public ContributionStats analyzeContribution(String token, String owner, String repo, String username,
+                                                 Deadline deadline) {
+        log.info("Analyzing full history for user {} in repo {}/{} from local mirror", username, owner, repo);
+
+        AnalysisCoverage coverage = new AnalysisCoverage();
+        coverage.addRepository(owner + "/" + repo);
+
+        // 1. 미러 최신화 (레포지토리당 한 번에 하나의 fetch만)
+        File mirror = syncMirror(token, owner, repo, deadline);
+
+        // 2. 커밋 그래프 순회
+        HistoryTally tally;
+        try (Git git = Git.open(mirror)) {
+            tally = walkHistory(git.getRepository(), owner + "/" + repo, username, deadline, coverage);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mirror for " + owner + "/" + repo, e);
+        }
+
+        // 3. PR/Issue는 API로 조회
+        List<PullRequest> userPRs = deadline.isExpired() ? new ArrayList<>()
+                : filterByUser(gitHubService.getRepositoryPullRequests(token, owner, repo), username,
+                pr -> pr.getUser() != null ? pr.getUser().getLogin() : null);
+        List<Issue> userIssues = deadline.isExpired() ? new ArrayList<>()
+                : filterByUser(gitHubService.getRepositoryIssues(token, owner, repo), username,
+                issue -> issue.getUser() != null ? issue.getUser().getLogin() : null);
+        if (deadline.isExpired()) {
+            coverage.markPartial();
+        }
+
+        double commitPercentage = tally.totalCommits > 0
+                ? (double) tally.userCommits / tally.totalCommits * 100
+                : 0.0;
+
+        ContributionStats stats = ContributionStats.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(username)
+                .username(username)
+                .repositoryFullName(owner + "/" + repo)
+                .firstCommitDate(tally.firstCommitDate)
+                .lastCommitDate(tally.lastCommitDate)
+                .totalCommits(tally.totalCommits)
+                .userCommits(tally.userCommits)
+                .commitPercentage(commitPercentage)
+                .additions((int) Math.min(tally.additions, Integer.MAX_VALUE))
+                .deletions((int) Math.min(tally.deletions, Integer.MAX_VALUE))
+                .languageDistribution(LanguageDetector.toDistribution(tally.languageLines))
+                .roleDistribution(tally.toRoleDistribution())
+                .roleAnalysisExact(!coverage.isPartial())
+                .pullRequests(userPRs)
+                .issues(userIssues)
+                .commitMessages(tally.commitMessages)
+                .analyzedAt(LocalDateTime.now())
+                .partial(coverage.isPartial())
+                .coverage(coverage)
+                .build();
+
+        log.info("Full history analysis completed for {}/{} - User: {}, Commits: {}/{} ({}%), +{}/-{}, Partial: {}",
+                owner, repo, username, tally.userCommits, tally.totalCommits,
+                String.format("%.1f", commitPercentage), tally.additions, tally.deletions, coverage.isPartial());
+
+        return stats;
+    }
+
+    /**
+     * bare 미러가 없으면 clone, 있으면 브랜치만 증분 fetch (삭제된 브랜치는 제거)
+     */
+    File syncMirror(String token, String owner, String repo, Deadline deadline) {
+        File mirror = new File(new File(mirrorDirectory, owner), repo + ".git");
+        String key = owner + "/" + repo;
+        UsernamePasswordCredentialsProvider credentials = new UsernamePasswordCredentialsProvider("x-access-token", token);
+        int timeoutSeconds = deadline.isUnbounded() ? 0 : (int) Math.max(1, deadline.remainingMillis() / 1000);
+
+        synchronized (mirrorLocks.computeIfAbsent(key, k -> new Object())) {
+            try {
+                if (!new File(mirror, "HEAD").exists()) {
+                    log.info("Cloning bare mirror of {} into {}", key, mirror);
+                    Git.cloneRepository()
+                            .setURI(String.format(remoteUrl, owner, repo))
+                            .setDirectory(mirror)
+                            .setBare(true)
+                            .setCloneAllBranches(true)
+                            .setCredentialsProvider(credentials)
+                            .setTimeout(timeoutSeconds)
+                            .call()
+                            .close();
+                } else {
+                    try (Git git = Git.open(mirror)) {
+                        git.fetch()
+                                .setRemote(Constants.DEFAULT_REMOTE_NAME)
+                                .setRefSpecs(BRANCH_REF_SPEC)
+                                .setRemoveDeletedRefs(true)
+                                .setCredentialsProvider(credentials)
+                                .setTimeout(timeoutSeconds)
+                                .call();
+                    }
+                }
+            } catch (GitAPIException | IOException e) {
+                throw new IllegalStateException("Failed to sync mirror for " + key + ": " + e.getMessage(), e);
+            }
+        }
+        return mirror;
+    }
+
+    /**
+     * 모든 브랜치에서 도달 가능한 커밋을 한 번씩 순회하며 집계
+     * 사용자 커밋은 첫 번째 부모와의 diff로 파일별 추가/삭제 라인을 계산
+     */
+    HistoryTally walkHistory(Repository repository, String fullName, String username,
+                             Deadline deadline, AnalysisCoverage coverage) throws IOException {
+        HistoryTally tally = new HistoryTally();
+
+        try (RevWalk walk = new RevWalk(repository);
+             DiffFormatter formatter = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+            formatter.setRepository(repository);
+            formatter.setDiffComparator(RawTextComparator.DEFAULT);
+            formatter.setDetectRenames(false);
+
+            for (Ref branch : repository.getRefDatabase().getRefsByPrefix(Constants.R_HEADS)) {
+                walk.markStart(walk.parseCommit(branch.getObjectId()));
+                coverage.addBranch(fullName, branch.getName().substring(Constants.R_HEADS.length()));
+            }
+
+            for (RevCommit commit : walk) {
+                if (deadline.isExpired()) {
+                    log.warn("Deadline reached, history walk of {} stopped after {} commits", fullName, tally.totalCommits);
+                    coverage.markPartial();
+                    break;
+                }
+
+                tally.totalCommits++;
+                PersonIdent author = commit.getAuthorIdent();
+                if (!isUser(author, username)) {
+                    continue;
+                }
+
+                tally.addUserCommit(author, commit.getShortMessage());
+
+                RevCommit parent = commit.getParentCount() > 0 ? walk.parseCommit(commit.getParent(0)) : null;
+                List<DiffEntry> entries = formatter.scan(parent != null ? parent.getTree() : null, commit.getTree());
+
+                Set<String> rolesInCommit = new HashSet<>();
+                for (DiffEntry entry : entries) {
+                    String path = entry.getChangeType() == DiffEntry.ChangeType.DELETE
+                            ? entry.getOldPath()
+                            : entry.getNewPath();
+
+                    int additions = 0;
+                    int deletions = 0;
+                    for (Edit edit : formatter.toFileHeader(entry).toEditList()) {
+                        additions += edit.getLengthB();
+                        deletions += edit.getLengthA();
+                    }
+
+                    String role = FileRoleClassifier.categorize(path);
+                    rolesInCommit.add(role);
+                    tally.addFile(path, role, additions, deletions);
+                }
+                for (String role : rolesInCommit) {
+                    tally.roleCommits.merge(role, 1, Integer::sum);
+                }
+            }
+        }
+
+        coverage.addCommits(tally.totalCommits);
+        coverage.addAnalyzedCommitDetails(tally.userCommits);
+        return tally;
+    }
+
+    /**
+     * REST 분석과 같은 기준(작성자 이름)에 GitHub noreply 이메일을 추가로 인정
+     */
+    private static boolean isUser(PersonIdent author, String username) {
+        if (author == null) {
+            return false;
+        }
+        if (username.equalsIgnoreCase(author.getName())) {
+            return true;
+        }
+        String email = author.getEmailAddress();
+        if (email == null) {
+            return false;
+        }
+        String lowerEmail = email.toLowerCase();
+        String noreply = username.toLowerCase() + "@users.noreply.github.com";
+        return lowerEmail.equals(noreply) || lowerEmail.endsWith("+" + noreply);
+    }
+
+    private static <T> List<T> filterByUser(List<T> items, String username,
+                                            Function<T, String> loginOf) {
+        List<T> result = new ArrayList<>();
+        for (T item : items) {
+            String login = loginOf.apply(item);
+            if (login != null && username.equalsIgnoreCase(login)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 히스토리 순회 집계 상태
+     */
+    static class HistoryTally {
+        private int totalCommits;
+        private int userCommits;
+        private long additions;
+        private long deletions;
+        private String firstCommitDate;
+        private String lastCommitDate;
+        private final List<String> commitMessages = new ArrayList<>();
+        private final Map<String, Integer> roleCommits = new HashMap<>();
+        private final Map<String, long[]> roleLines = new HashMap<>();
+        private final long[] languageLines = new long[LanguageDetector.languageCount()];
+
+        void addUserCommit(PersonIdent author, String shortMessage) {
+            userCommits++;
+
+            String date = author.getWhen().toInstant().atOffset(ZoneOffset.UTC).toLocalDate().toString();
+            if (firstCommitDate == null || date.compareTo(firstCommitDate) < 0) {
+                firstCommitDate = date;
+            }
+            if (lastCommitDate == null || date.compareTo(lastCommitDate) > 0) {
+                lastCommitDate = date;
+            }
+
+            // 커밋 메시지 (AI 분석용, 최근 30개 - RevWalk는 최신 커밋부터 순회)
+            if (commitMessages.size() < 30 && shortMessage != null) {
+                commitMessages.add(shortMessage);
+            }
+        }
+
+        void addFile(String path, String role, int fileAdditions, int fileDeletions) {
+            int lines = fileAdditions + fileDeletions;
+            additions += fileAdditions;
+            deletions += fileDeletions;
+            roleLines.computeIfAbsent(role, k -> new long[1])[0] += lines;
+
+            int language = LanguageDetector.languageOf(path);
+            if (language >= 0) {
+                languageLines[language] += lines;
+            }
+        }
+
+        Map<String, ContributionStats.RoleStats> toRoleDistribution() {
+            long totalLines = additions + deletions;
+            Map<String, ContributionStats.RoleStats> distribution = new HashMap<>();
+
+            for (Map.Entry<String, Integer> entry : roleCommits.entrySet()) {
+                String roleName = entry.getKey();
+                double percentage = userCommits > 0 ? (double) entry.getValue() / userCommits * 100 : 0.0;
+                long lines = roleLines.getOrDefault(roleName, new long[1])[0];
+
+                // 전수 분석이므로 신뢰구간 폭은 0
+                distribution.put(roleName, ContributionStats.RoleStats.builder()
+                        .roleName(roleName)
+                        .commitCount(entry.getValue())
+                        .percentage(percentage)
+                        .confidenceLow(percentage)
+                        .confidenceHigh(percentage)
+                        .lines(lines)
+                        .linePercentage(totalLines > 0 ? (double) lines / totalLines * 100 : 0.0)
+                        .build());
+            }
+            return distribution;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.tally.service;
+
+import com.tally.domain.AnalysisCoverage;
+import com.tally.domain.ContributionStats;
+import com.tally.domain.Issue;
+import com.tally.domain.PullRequest;
+import com.tally.util.Deadline;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.MergeCommand;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로컬 fixture 레포지토리(file:// 원격)로 미러 동기화와 히스토리 집계 검증 (네트워크 사용 안 함)
+ *
+ * fixture (main 기준, 오래된 순):
+ * bob    README.md 2줄 추가
+ * alice  src/main/java/App.java 3줄 추가, README.md 1줄 수정 (+1/-1)
+ * alice  feature 브랜치: deploy.yml 2줄 추가
+ * bob    src/main/java/Other.java 1줄 추가
+ * alice  feature 병합 (첫 번째 부모 main 기준 diff는 deploy.yml +2뿐)
+ */
+class GitMirrorAnalysisServiceTest {
+    private static final String OWNER = "acme";
+    private static final String REPO = "widget";
+
+    private static final Date WHEN = new Date(1_700_000_000_000L);
+    private static final PersonIdent ALICE = new PersonIdent("alice", "alice@example.com", WHEN, TimeZone.getTimeZone("UTC"));
+    private static final PersonIdent BOB = new PersonIdent("bob", "bob@example.com", WHEN, TimeZone.getTimeZone("UTC"));
+
+    @TempDir
+    Path tempDir;
+
+    private Git origin;
+    private final List<RevCommit> fixtureCommits = new ArrayList<>();
+    private GitMirrorAnalysisService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File originDir = tempDir.resolve("origin").resolve(OWNER).resolve(REPO).toFile();
+        origin = Git.init().setDirectory(originDir).setInitialBranch("main").call();
+
+        commit(BOB, "Add readme", "README.md", "line one\nline two\n");
+        write("src/main/java/App.java", "class App {\n}\n// app\n");
+        commit(ALICE, "Add app", "README.md", "line one changed\nline two\n");
+
+        origin.checkout().setCreateBranch(true).setName("feature").call();
+        commit(ALICE, "Add deploy config", "deploy.yml", "name: deploy\non: push\n");
+
+        origin.checkout().setName("main").call();
+        commit(BOB, "Add other", "src/main/java/Other.java", "class Other {}\n");
+
+        origin.merge()
+                .include(origin.getRepository().resolve("feature"))
+                .setCommit(false)
+                .setFastForward(MergeCommand.FastForwardMode.NO_FF)
+                .call();
+        fixtureCommits.add(origin.commit().setAuthor(ALICE).setCommitter(ALICE).setMessage("Merge feature").call());
+
+        String remoteUrl = tempDir.resolve("origin").toUri() + "%s/%s";
+        service = new GitMirrorAnalysisService(new NoApiGitHubService(),
+                tempDir.resolve("mirrors").toString(), remoteUrl);
+    }
+
+    @AfterEach
+    void tearDown() {
+        origin.close();
+    }
+
+    @Test
+    void analyzesUserCommitsFromFirstParentDiffs() {
+        ContributionStats stats = service.analyzeContribution("token", OWNER, REPO, "alice", Deadline.none());
+
+        assertEquals(5, stats.getTotalCommits());
+        assertEquals(3, stats.getUserCommits());
+        assertFalse(stats.isPartial());
+        assertTrue(stats.isRoleAnalysisExact());
+
+        // App.java +3, README.md +1/-1, deploy.yml +2 (feature 커밋), deploy.yml +2 (병합 커밋의 첫 번째 부모 diff)
+        // 병합 커밋을 두 번째 부모와 비교했다면 Other.java가 포함됨
+        assertEquals(8, stats.getAdditions());
+        assertEquals(1, stats.getDeletions());
+
+        Map<String, ContributionStats.RoleStats> roles = stats.getRoleDistribution();
+        assertEquals(Set.of("backend", "documentation", "infrastructure"), roles.keySet());
+        assertEquals(1, roles.get("backend").getCommitCount());
+        assertEquals(3, roles.get("backend").getLines());
+        assertEquals(1, roles.get("documentation").getCommitCount());
+        assertEquals(2, roles.get("documentation").getLines());
+        assertEquals(2, roles.get("infrastructure").getCommitCount());
+        assertEquals(4, roles.get("infrastructure").getLines());
+
+        Map<String, Integer> languages = stats.getLanguageDistribution();
+        assertEquals(3, languages.get("Java"));
+        assertEquals(2, languages.get("Markdown"));
+        assertEquals(4, languages.get("YAML"));
+
+        AnalysisCoverage coverage = stats.getCoverage();
+        assertEquals(List.of("feature", "main"), sorted(coverage.getBranches().get(OWNER + "/" + REPO)));
+    }
+
+    @Test
+    void countsOnlyCommitsAuthoredByTheUser() {
+        ContributionStats stats = service.analyzeContribution("token", OWNER, REPO, "bob", Deadline.none());
+
+        assertEquals(5, stats.getTotalCommits());
+        assertEquals(2, stats.getUserCommits());
+        // README.md +2, Other.java +1
+        assertEquals(3, stats.getAdditions());
+        assertEquals(0, stats.getDeletions());
+    }
+
+    @Test
+    void secondSyncFetchesOnlyNewCommitsAndRemovesDeletedBranches() throws Exception {
+        File mirror = service.syncMirror("token", OWNER, REPO, Deadline.none());
+        Properties afterClone = statistics(mirror);
+        assertEquals(1, count(afterClone, "numberOfPackFiles"));
+        // 다시 clone하면 사라지는 표시 파일
+        File marker = new File(mirror, "tally-test-marker");
+        assertTrue(marker.createNewFile());
+
+        RevCommit newCommit = commit(ALICE, "Add service", "src/main/java/Service.java", "class Service {}\n");
+        origin.branchDelete().setBranchNames("feature").setForce(true).call();
+
+        service.syncMirror("token", OWNER, REPO, Deadline.none());
+
+        assertTrue(marker.exists(), "mirror must be updated in place, not re-cloned");
+        try (Git git = Git.open(mirror)) {
+            assertEquals(newCommit.getId(), git.getRepository().resolve(Constants.R_HEADS + "main"));
+            assertNull(git.getRepository().exactRef(Constants.R_HEADS + "feature"));
+        }
+
+        // 두 번째 fetch는 pack 하나만 추가하고, 그 pack에는 히스토리 전체가 아니라 새 커밋 쪽 객체만 있음
+        // (thin pack을 풀면서 delta 기준 객체가 일부 덧붙을 수 있으므로 정확한 수 대신 clone보다 적은지 확인)
+        Properties afterFetch = statistics(mirror);
+        assertEquals(2, count(afterFetch, "numberOfPackFiles"), "second sync should receive exactly one new pack");
+        assertEquals(0, count(afterFetch, "numberOfLooseObjects"));
+        long fetchedObjects = count(afterFetch, "numberOfPackedObjects") - count(afterClone, "numberOfPackedObjects");
+        assertTrue(fetchedObjects > 0);
+        assertTrue(fetchedObjects < count(afterClone, "numberOfPackedObjects"),
+                "second sync re-downloaded the history: " + fetchedObjects + " objects");
+
+        // feature 브랜치가 지워져도 병합으로 도달 가능한 커밋은 그대로 집계
+        ContributionStats stats = service.analyzeContribution("token", OWNER, REPO, "alice", Deadline.none());
+        assertEquals(6, stats.getTotalCommits());
+        assertEquals(4, stats.getUserCommits());
+        assertEquals(List.of("main"), stats.getCoverage().getBranches().get(OWNER + "/" + REPO));
+    }
+
+    private RevCommit commit(PersonIdent author, String message, String path, String content) throws Exception {
+        write(path, content);
+        origin.add().addFilepattern(".").call();
+        RevCommit commit = origin.commit().setAuthor(author).setCommitter(author).setMessage(message).call();
+        fixtureCommits.add(commit);
+        return commit;
+    }
+
+    private void write(String path, String content) throws IOException {
+        Path file = origin.getRepository().getWorkTree().toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 미러 객체 저장소 통계 (gc는 실행하지 않고 현재 pack/loose 객체 수만 조회)
+     */
+    private static Properties statistics(File mirror) throws Exception {
+        try (Git git = Git.open(mirror)) {
+            return git.gc().getStatistics();
+        }
+    }
+
+    private static long count(Properties statistics, String name) {
+        return Long.parseLong(String.valueOf(statistics.get(name)));
+    }
+
+    private static List<String> sorted(List<String> values) {
+        assertNotNull(values);
+        List<String> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+
+    /**
+     * PR/Issue 조회를 네트워크 없이 빈 목록으로 대체
+     */
+    private static final class NoApiGitHubService extends GitHubService {
+        @Override
+        public List<PullRequest> getRepositoryPullRequests(String token, String owner, String repo) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<Issue> getRepositoryIssues(String token, String owner, String repo) {
+            return new ArrayList<>();
+        }
+    }
+}
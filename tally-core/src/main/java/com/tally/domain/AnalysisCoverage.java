@@ -0,0 +1,97 @@
+package com.tally.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석 범위 정보 (마감 시간 때문에 일부만 분석된 경우 어디까지 포함되었는지)
+ */
+@Getter
+@NoArgsConstructor
+public class AnalysisCoverage {
+    private final List<String> repositories = new ArrayList<>();         // 집계에 포함된 레포지토리
+    private final List<String> skippedRepositories = new ArrayList<>();  // 시간 부족으로 제외된 레포지토리
+    private final List<String> prunedRepositories = new ArrayList<>();   // 변경이 없어 조회 없이 이전 결과를 재사용한 레포지토리
+    private final Map<String, List<String>> branches = new LinkedHashMap<>();  // 레포지토리별 조회한 브랜치
+    private final Map<String, List<String>> truncatedBranches = new LinkedHashMap<>();  // 최근 커밋 일부만 조회한 브랜치 (페이지 한도/마감 시간)
+    private int commits;                  // 집계에 포함된 커밋 수
+    private int analyzedCommitDetails;    // 역할 분석에 사용된 커밋 상세 수
+
+    @JsonIgnore
+    private volatile boolean partial;
+
+    public synchronized void addRepository(String fullName) {
+        repositories.add(fullName);
+    }
+
+    public synchronized void addSkippedRepository(String fullName) {
+        if (!skippedRepositories.contains(fullName)) {
+            skippedRepositories.add(fullName);
+        }
+        partial = true;
+    }
+
+    public synchronized void addPrunedRepository(String fullName) {
+        prunedRepositories.add(fullName);
+    }
+
+    public synchronized void addBranch(String fullName, String branch) {
+        branches.computeIfAbsent(fullName, k -> new ArrayList<>()).add(branch);
+    }
+
+    public synchronized void addTruncatedBranch(String fullName, String branch) {
+        truncatedBranches.computeIfAbsent(fullName, k -> new ArrayList<>()).add(branch);
+    }
+
+    /**
+     * 조회한 브랜치의 커밋 히스토리를 끝까지 읽었는지 (false면 오래된 커밋이 분석에서 빠짐)
+     */
+    @JsonIgnore
+    public synchronized boolean isCommitHistoryComplete() {
+        return truncatedBranches.isEmpty();
+    }
+
+    public synchronized void addCommits(int count) {
+        commits += count;
+    }
+
+    public synchronized void addAnalyzedCommitDetails(int count) {
+        analyzedCommitDetails += count;
+    }
+
+    /**
+     * 마감 시간 때문에 일부 데이터가 빠졌음을 표시
+     */
+    public void markPartial() {
+        partial = true;
+    }
+
+    /**
+     * 다른 분석의 범위 정보 합치기 (조직 집계용)
+     */
+    public synchronized void merge(AnalysisCoverage other) {
+        if (other == null) {
+            return;
+        }
+        synchronized (other) {
+            repositories.addAll(other.repositories);
+            skippedRepositories.addAll(other.skippedRepositories);
+            prunedRepositories.addAll(other.prunedRepositories);
+            other.branches.forEach((repo, names) ->
+                    branches.computeIfAbsent(repo, k -> new ArrayList<>()).addAll(names));
+            other.truncatedBranches.forEach((repo, names) ->
+                    truncatedBranches.computeIfAbsent(repo, k -> new ArrayList<>()).addAll(names));
+            commits += other.commits;
+            analyzedCommitDetails += other.analyzedCommitDetails;
+        }
+        if (other.partial) {
+            partial = true;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.tally.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 캐시된 기여도 분석 결과
+ * 분석할 때의 브랜치 HEAD가 지금과 모두 같으면 커밋 내용이 바뀌지 않았으므로 재사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedContributionStats {
+    private String key;                         // owner/repo:username (소문자)
+    private Map<String, String> branchHeads;    // 분석할 때의 브랜치 이름 -> HEAD SHA
+    private ContributionStats stats;
+    private long computedAt;                    // epoch millis
+}
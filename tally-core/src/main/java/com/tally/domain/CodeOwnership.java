@@ -0,0 +1,54 @@
+package com.tally.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 코드 소유권 (기본 브랜치 HEAD의 파일을 blame해서 작성자별로 살아남은 라인 수 집계)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeOwnership {
+    private String repositoryFullName;
+    private String branch;              // blame 기준 브랜치 (기본 브랜치)
+    private String commitSha;           // blame 기준 커밋
+    private String treeSha;             // 캐시 키 (트리가 같으면 결과도 같음)
+
+    // 파일 통계
+    private int totalFiles;             // HEAD 트리의 파일 수
+    private int blamedFiles;            // blame한 텍스트 파일 수
+    private int skippedFiles;           // 바이너리/대용량/서브모듈 등으로 제외한 파일 수
+    private int reusedFiles;            // 이전 트리에서 blame 결과를 재사용한 파일 수
+    private long totalLines;            // blame한 전체 라인 수
+
+    private Map<String, Long> roleLines;  // 역할별 라인 수
+    private List<Owner> owners;           // 작성자별 소유 라인 (많은 순)
+
+    private LocalDateTime analyzedAt;
+    private boolean cached;             // 같은 트리의 이전 결과를 그대로 반환한 경우 true
+
+    // 마감 시간 내에 일부 파일만 blame한 경우 true (캐시하지 않음)
+    private boolean partial;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Owner {
+        private String name;            // GitHub noreply 이메일이면 로그인, 아니면 작성자 이름
+        private long lines;             // 현재 코드에 남아 있는 라인 수
+        private double percentage;      // 전체 라인 대비 비율
+        private Map<String, Long> roleLines;  // 역할별 라인 수
+    }
+}
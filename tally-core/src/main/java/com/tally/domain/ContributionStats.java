@@ -30,10 +30,10 @@ public class ContributionStats {
     private int userCommits;
     private double commitPercentage;
 
-    // 코드 통계
+    // 코드 통계 (roleAnalysisExact가 false면 표본에서 추정한 값)
     private int additions;
     private int deletions;
-    private Map<String, Integer> languageDistribution;  // 언어별 라인 수
+    private Map<String, Integer> languageDistribution;  // 언어별 변경 라인 수 (additions + deletions, 많은 순)
 
     // 활동 패턴
     private Map<Integer, Integer> hourlyActivity;       // 시간대별 커밋 수
@@ -41,6 +41,8 @@ public class ContributionStats {
 
     // 역할 분석
     private Map<String, RoleStats> roleDistribution;    // 역할별 통계
+    private boolean roleAnalysisExact;                  // false면 층화 표본 기반 추정치
+    private boolean commitHistoryComplete;              // false면 커밋 목록이 최근 일부로 잘려 역할 분석/신뢰구간은 그 구간의 커밋에만 해당
 
     private List<PullRequest> pullRequests;             // 사용자의 PR 목록
     private List<Issue> issues;                         // 사용자의 Issue 목록
@@ -50,6 +52,10 @@ public class ContributionStats {
 
     private LocalDateTime analyzedAt;
 
+    // 마감 시간 내에 일부만 분석된 경우 true
+    private boolean partial;
+    private AnalysisCoverage coverage;                  // 분석에 포함된 레포/브랜치/커밋 범위
+
     @Getter
     @Setter
     @Builder
@@ -57,7 +63,11 @@ public class ContributionStats {
     @AllArgsConstructor
     public static class RoleStats {
         private String roleName;
-        private int commitCount;
-        private double percentage;
+        private int commitCount;                        // 분석한 커밋 중 이 역할을 포함한 커밋 수
+        private double percentage;                      // 이 역할을 포함한 커밋 비율 (추정치)
+        private double confidenceLow;                   // 95% 신뢰구간 하한 (%, 조회한 커밋 구간 기준)
+        private double confidenceHigh;                  // 95% 신뢰구간 상한 (%, 조회한 커밋 구간 기준)
+        private long lines;                             // 분석한 커밋에서 이 역할의 변경 라인 수 (additions + deletions)
+        private double linePercentage;                  // 변경 라인 기준 비율 (추정치)
     }
 }
\ No newline at end of file
@@ -33,6 +33,14 @@ public class GitHubRepository {
     @JsonProperty("updated_at")
     private String updatedAt;
 
+    // 마지막 push 시각 (Issue/PR 활동과 무관하게 코드가 바뀔 때만 갱신됨)
+    @JsonProperty("pushed_at")
+    private String pushedAt;
+
+    private Boolean archived;
+
+    private Integer size;  // KB 단위, 빈 레포지토리는 0
+
     // ✅ Fork 정보 추가
     private Boolean fork;
 
@@ -30,8 +30,14 @@ public class OrganizationStats {
     private int totalIssues;
     private int totalPullRequests;
 
-    // 팀원별 기여도
+    // 팀원별 기여도 (top 지정 시 상위 N명만)
     private List<TeamMember> teamMembers;
+    private int totalMembers;
+    private Map<String, Integer> memberCommitPercentiles;  // p50, p75, p90, p99 -> 커밋 수
+
+    // 마감 시간 내에 일부 레포지토리만 집계된 경우 true
+    private boolean partial;
+    private AnalysisCoverage coverage;
 
     @Data
     @Builder
@@ -56,5 +62,10 @@ public class OrganizationStats {
         private String avatarUrl;
         private int commits;
         private double contributionPercentage;
+        private int rank;                  // 커밋 수 순위 (동률은 같은 순위)
+        private double percentile;         // 커밋 수가 더 적은 팀원 비율
+        private int repositories;          // 기여한 레포지토리 수
+        private String firstCommitDate;
+        private String lastCommitDate;
     }
 }
\ No newline at end of file
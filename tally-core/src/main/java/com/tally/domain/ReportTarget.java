@@ -0,0 +1,21 @@
+package com.tally.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 리포트 대상 (레포지토리, 사용자)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportTarget {
+    private String owner;
+    private String repo;
+    private String username;
+
+    public String repositoryFullName() {
+        return owner + "/" + repo;
+    }
+}
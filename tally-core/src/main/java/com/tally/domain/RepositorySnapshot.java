@@ -0,0 +1,31 @@
+package com.tally.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조직 통계용 레포지토리별 집계 결과 스냅샷
+ * pushed_at이 바뀌지 않은 레포지토리는 다시 조회하지 않고 이 값을 재사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepositorySnapshot {
+    private String fullName;
+    private String pushedAt;                    // 스냅샷을 만들 때의 pushed_at
+    private int totalCommits;
+
+    // 팀원별 컬럼 (같은 인덱스가 같은 팀원)
+    private String[] members;                   // login(없으면 작성자 이름)
+    private String[] avatars;                   // avatarUrl (없으면 null)
+    private int[] memberCommits;
+    private long[] firstCommitAt;               // epoch seconds (ContributorTable.NO_FIRST_COMMIT이면 알 수 없음)
+    private long[] lastCommitAt;                // epoch seconds
+
+    private int issues;
+    private int pullRequests;
+    private long computedAt;                    // epoch millis
+}
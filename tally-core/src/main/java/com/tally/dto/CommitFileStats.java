@@ -0,0 +1,29 @@
+package com.tally.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커밋 상세의 파일별 변경 통계 (patch 본문 제외)
+ */
+@Getter
+@Setter
+public class CommitFileStats {
+    private String sha;
+    private int additions;
+    private int deletions;
+    private List<FileStat> files = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class FileStat {
+        private String filename;
+        private String status;
+        private int additions;
+        private int deletions;
+        private int changes;
+    }
+}
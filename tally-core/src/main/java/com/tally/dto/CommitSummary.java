@@ -0,0 +1,34 @@
+package com.tally.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 분석용 커밋 요약 (sha, 작성자, 날짜, 메시지만)
+ * URL/node_id/committer/files 등은 파싱 단계에서 건너뜀
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommitSummary {
+    private String sha;
+    private GitHubAccountRef author;  // GitHub 계정 (연결되지 않은 커밋은 null)
+    private Detail commit;
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Detail {
+        private Signature author;
+        private String message;
+    }
+
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Signature {
+        private String name;
+        private String date;
+    }
+}
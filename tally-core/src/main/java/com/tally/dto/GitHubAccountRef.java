@@ -0,0 +1,19 @@
+package com.tally.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * GitHub 계정 참조 (login, avatar만)
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GitHubAccountRef {
+    private String login;
+
+    @JsonProperty("avatar_url")
+    private String avatarUrl;
+}
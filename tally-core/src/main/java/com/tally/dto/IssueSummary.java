@@ -0,0 +1,18 @@
+package com.tally.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 집계용 Issue 요약 (본문/URL/전체 사용자 객체 제외)
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IssueSummary {
+    private Long number;
+    private String title;
+    private String state;
+    private GitHubAccountRef user;
+}
@@ -0,0 +1,23 @@
+package com.tally.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 집계용 PR 요약 (본문/URL/전체 사용자 객체 제외)
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PullRequestSummary {
+    private Long number;
+    private String title;
+    private String state;
+
+    @JsonProperty("merged_at")
+    private String mergedAt;
+
+    private GitHubAccountRef user;
+}
@@ -57,6 +57,26 @@ public class AIAnalysisService {
         }
     }
 
+    /**
+     * 예열: 프롬프트/요청 본문 생성과 SDK 요청 모델 빌드까지만 수행 (Bedrock 호출 없음)
+     */
+    public void warmUp(ContributionStats sample) throws Exception {
+        ObjectNode requestBody = objectMapper.createObjectNode();
+        requestBody.put("anthropic_version", "bedrock-2023-05-31");
+        requestBody.putArray("messages").addObject()
+                .put("role", "user")
+                .put("content", buildPrompt(sample));
+
+        InvokeModelRequest.builder()
+                .modelId(modelId)
+                .contentType("application/json")
+                .accept("application/json")
+                .body(SdkBytes.fromUtf8String(objectMapper.writeValueAsString(requestBody)))
+                .build();
+
+        generateFallbackSummary(sample);
+    }
+
     /**
      * 프롬프트 생성 - 커밋 메시지, PR, Issue 내용을 포함한 상세 분석
      */
@@ -1,13 +1,11 @@
 package com.tally.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tally.domain.User;
 import com.tally.util.JsonFileUtil;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.*;
 
 @Slf4j
@@ -17,8 +15,7 @@ public class AuthService {
     private String clientId;
     private String clientSecret;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GitHubHttpClient http = new GitHubHttpClient(Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(10));
     private static final String USERS_FILE = "data/users.json";
 
     public AuthService() {
@@ -38,26 +35,13 @@ public class AuthService {
     public String getAccessToken(String code) {
         String tokenUrl = "https://github.com/login/oauth/access_token";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("client_id", clientId);
         requestBody.put("client_secret", clientSecret);
         requestBody.put("code", code);
 
-        HttpEntity<Map<String, String>> request = new HttpEntity<>(requestBody, headers);
-
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    tokenUrl,
-                    HttpMethod.POST,
-                    request,
-                    String.class
-            );
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            JsonNode jsonNode = http.postJson(tokenUrl, requestBody, JsonNode.class);
             String accessToken = jsonNode.get("access_token").asText();
 
             log.info("Successfully obtained access token");
@@ -75,21 +59,8 @@ public class AuthService {
     public User getUserInfo(String accessToken) {
         String userUrl = "https://api.github.com/user";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "token " + accessToken);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        HttpEntity<String> request = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    userUrl,
-                    HttpMethod.GET,
-                    request,
-                    String.class
-            );
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            JsonNode jsonNode = http.get(userUrl, accessToken, JsonNode.class);
 
             User user = new User();
             user.setId(String.valueOf(jsonNode.get("id").asLong()));
@@ -0,0 +1,380 @@
+package com.tally.service;
+
+import com.tally.domain.ContributionStats;
+import com.tally.domain.ReportTarget;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 (레포지토리, 사용자)의 PDF 리포트를 ZIP 하나로 생성 (팀 기여 인증서 일괄 발급)
+ *
+ * 레포지토리마다 커밋/PR/Issue를 한 번만 조회해 그 레포지토리의 모든 사용자 분석에 공유하고,
+ * PDF는 크기가 정해진 렌더링 풀에서 병렬로 만든다. 완성된 문서부터 호출 스레드가 ZIP 항목으로 바로 기록하며,
+ * 렌더링 중이거나 기록을 기다리는 문서 수를 세마포어로 제한해 메모리에는 문서 몇 개만 머문다.
+ * PDF는 이미 압축된 형식이라 항목을 다시 압축하지 않고 STORED로 기록한다.
+ */
+@Slf4j
+public class BatchReportService {
+    // 한 요청에서 만들 수 있는 최대 리포트 수
+    public static final int MAX_TARGETS = 200;
+
+    // 동시에 분석하는 레포지토리 수 (레포지토리 안의 커밋 상세 조회는 분석 서비스가 다시 병렬 처리)
+    private static final int ANALYSIS_PARALLELISM = 4;
+
+    // 렌더링 스레드당 렌더링 중/기록 대기 문서 수
+    private static final int PENDING_DOCUMENTS_PER_THREAD = 2;
+
+    // 취소 여부 확인 주기 (기록 대기 중인 분석 스레드)
+    private static final long CANCEL_CHECK_MS = 200;
+
+    // 마감 시간 뒤에도 결과를 기다리는 시간 (마감 후 분석은 조회 없이 바로 끝나므로 렌더링 몇 개면 충분)
+    private static final long RESULT_GRACE_MS = 2_000;
+
+    private static final int PDF_BUFFER_SIZE = 32 * 1024;
+    private static final String ERRORS_ENTRY = "errors.txt";
+    private static final Pattern UNSAFE_NAME = Pattern.compile("[^A-Za-z0-9._-]");
+
+    private final ContributionAnalysisService analysisService;
+    private final PDFReportService pdfReportService;
+    private final int renderParallelism;
+    private final ExecutorService analysisExecutor;
+    private final ExecutorService renderExecutor;
+
+    public BatchReportService(ContributionAnalysisService analysisService, PDFReportService pdfReportService) {
+        this(analysisService, pdfReportService, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param renderParallelism PDF 동시 렌더링 수 (CPU 작업이므로 코어 수 이하 권장)
+     */
+    public BatchReportService(ContributionAnalysisService analysisService, PDFReportService pdfReportService,
+                              int renderParallelism) {
+        this.analysisService = analysisService;
+        this.pdfReportService = pdfReportService;
+        this.renderParallelism = Math.max(1, renderParallelism);
+        this.analysisExecutor = newDaemonPool(ANALYSIS_PARALLELISM, "batch-analysis-");
+        this.renderExecutor = newDaemonPool(this.renderParallelism, "batch-render-");
+    }
+
+    private static ExecutorService newDaemonPool(int threads, String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 대상 목록 검증 (비어 있거나, 너무 많거나, 필수 값이 빠지면 IllegalArgumentException)
+     */
+    public static void validate(List<ReportTarget> targets) {
+        if (targets == null || targets.isEmpty()) {
+            throw new IllegalArgumentException("리포트 대상이 없습니다");
+        }
+        if (targets.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException("리포트 대상은 최대 " + MAX_TARGETS + "개입니다");
+        }
+        for (ReportTarget target : targets) {
+            if (target == null || isBlank(target.getOwner()) || isBlank(target.getRepo())
+                    || isBlank(target.getUsername())) {
+                throw new IllegalArgumentException("owner, repo, username은 필수입니다");
+            }
+        }
+    }
+
+    /**
+     * 대상 목록의 PDF 리포트를 ZIP으로 기록 (항목 이름은 {owner}/{repo}/{username}.pdf, 완성된 순서대로 기록)
+     * 분석/렌더링에 실패한 대상은 errors.txt에 모아 마지막 항목으로 기록한다. 스트림은 닫지 않는다.
+     */
+    public void writeZip(String token, List<ReportTarget> targets, Deadline deadline, OutputStream out)
+            throws IOException {
+        validate(targets);
+        long startedAt = System.currentTimeMillis();
+
+        // 레포지토리별로 묶고 같은 사용자는 한 번만 (GitHub 로그인은 대소문자 구분 없음)
+        Map<String, List<ReportTarget>> targetsByRepo = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (ReportTarget target : targets) {
+            String key = target.repositoryFullName().toLowerCase(Locale.ROOT);
+            if (seen.add(key + "/" + target.getUsername().toLowerCase(Locale.ROOT))) {
+                targetsByRepo.computeIfAbsent(key, k -> new ArrayList<>()).add(target);
+            }
+        }
+        int expected = seen.size();
+
+        PendingDocuments pending = new PendingDocuments(renderParallelism * PENDING_DOCUMENTS_PER_THREAD);
+        for (List<ReportTarget> repoTargets : targetsByRepo.values()) {
+            try {
+                analysisExecutor.execute(() -> analyzeAndRender(token, repoTargets, deadline, pending));
+            } catch (RejectedExecutionException e) {
+                for (ReportTarget target : repoTargets) {
+                    pending.complete(RenderedDocument.failed(target, "분석 작업 등록 실패"));
+                }
+            }
+        }
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        List<String> errors = new ArrayList<>();
+        int written = 0;
+        try {
+            for (int i = 0; i < expected; i++) {
+                RenderedDocument document = pending.take(deadline);
+                if (document == null) {
+                    // 작업자가 결과를 남기지 못한 경우에도 응답을 붙잡지 않고 남은 대상을 오류로 기록
+                    errors.add((expected - i) + "개 대상: 마감 시간까지 완료되지 않음");
+                    pending.cancel();
+                    break;
+                }
+                if (document.error != null) {
+                    errors.add(document.target.repositoryFullName() + " " + document.target.getUsername()
+                            + ": " + document.error);
+                    continue;
+                }
+                try {
+                    writeStoredEntry(zip, document);
+                    written++;
+                } finally {
+                    pending.release();
+                }
+                // 항목마다 내보내 클라이언트가 완성된 문서부터 받도록 함
+                zip.flush();
+            }
+            if (!errors.isEmpty()) {
+                zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+                zip.write(String.join("\n", errors).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+        } catch (InterruptedException e) {
+            pending.cancel();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("일괄 리포트 생성 중단");
+        } catch (IOException | RuntimeException e) {
+            // 클라이언트 연결 종료 등: 남은 분석/렌더링을 멈춤
+            pending.cancel();
+            throw e;
+        }
+
+        log.info("Batch report written: {} documents, {} failed, {} repositories in {}ms",
+                written, expected - written, targetsByRepo.size(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 레포지토리 하나의 사용자들을 한 번의 조회로 분석하고 렌더링 작업 등록 (분석 스레드)
+     */
+    private void analyzeAndRender(String token, List<ReportTarget> repoTargets, Deadline deadline,
+                                  PendingDocuments pending) {
+        // 결과를 넘긴(완료 또는 렌더링 등록) 대상 수 - Error로 중단돼도 나머지는 finally에서 실패로 완료
+        int handled = 0;
+        try {
+            if (pending.isCancelled()) {
+                return;
+            }
+            ReportTarget first = repoTargets.get(0);
+            List<String> usernames = new ArrayList<>(repoTargets.size());
+            for (ReportTarget target : repoTargets) {
+                usernames.add(target.getUsername());
+            }
+
+            Map<String, ContributionStats> results;
+            try {
+                results = analysisService.analyzeContributions(
+                        token, first.getOwner(), first.getRepo(), usernames, deadline);
+            } catch (RuntimeException e) {
+                log.warn("Batch analysis failed for {}: {}", first.repositoryFullName(), e.getMessage());
+                for (; handled < repoTargets.size(); handled++) {
+                    pending.complete(RenderedDocument.failed(repoTargets.get(handled), "분석 실패: " + e.getMessage()));
+                }
+                return;
+            }
+
+            for (; handled < repoTargets.size(); handled++) {
+                ReportTarget target = repoTargets.get(handled);
+                ContributionStats stats = results.get(target.getUsername());
+                if (stats == null) {
+                    pending.complete(RenderedDocument.failed(target, "분석 결과 없음"));
+                    continue;
+                }
+                // 마감 시간 때문에 커밋/PR/Issue 일부가 빠진 분석은 정상 인증서처럼 보이지 않도록 렌더링하지 않음
+                if (stats.isPartial()) {
+                    pending.complete(RenderedDocument.failed(target, "마감 시간 초과로 일부만 분석됨 (대상을 나눠 다시 요청하세요)"));
+                    continue;
+                }
+                // 기록을 기다리는 문서가 많으면 여기서 대기 (취소되면 중단)
+                if (!pending.acquire()) {
+                    return;
+                }
+                try {
+                    renderExecutor.execute(() -> render(target, stats, pending));
+                } catch (RejectedExecutionException e) {
+                    pending.release();
+                    pending.complete(RenderedDocument.failed(target, "렌더링 작업 등록 실패"));
+                }
+            }
+        } finally {
+            for (; handled < repoTargets.size(); handled++) {
+                pending.complete(RenderedDocument.failed(repoTargets.get(handled), "분석 중단"));
+            }
+        }
+    }
+
+    /**
+     * PDF 렌더링 (렌더링 스레드) - CRC는 렌더링하면서 함께 계산
+     */
+    private void render(ReportTarget target, ContributionStats stats, PendingDocuments pending) {
+        if (pending.isCancelled()) {
+            pending.release();
+            return;
+        }
+        boolean completed = false;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(PDF_BUFFER_SIZE);
+            CRC32 crc = new CRC32();
+            pdfReportService.writeReport(stats, new CheckedOutputStream(buffer, crc));
+            pending.complete(RenderedDocument.rendered(target, buffer, crc.getValue()));
+            completed = true;
+        } catch (RuntimeException e) {
+            log.warn("Batch PDF render failed for {} {}: {}",
+                    target.repositoryFullName(), target.getUsername(), e.getMessage());
+        } finally {
+            // Error(OOM 등)도 실패 문서로 완료해 ZIP을 기록하는 요청 스레드가 기다리지 않게 함 (Error는 그대로 전파)
+            if (!completed) {
+                pending.release();
+                pending.complete(RenderedDocument.failed(target, "PDF 생성 실패"));
+            }
+        }
+    }
+
+    private static void writeStoredEntry(ZipOutputStream zip, RenderedDocument document) throws IOException {
+        ZipEntry entry = new ZipEntry(entryName(document.target));
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(document.pdf.size());
+        entry.setCompressedSize(document.pdf.size());
+        entry.setCrc(document.crc);
+        zip.putNextEntry(entry);
+        document.pdf.writeTo(zip);
+        zip.closeEntry();
+    }
+
+    static String entryName(ReportTarget target) {
+        return safeName(target.getOwner()) + "/" + safeName(target.getRepo()) + "/" + safeName(target.getUsername()) + ".pdf";
+    }
+
+    private static String safeName(String name) {
+        return UNSAFE_NAME.matcher(name).replaceAll("_");
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 한 요청의 완성 문서 큐와 렌더링 허용량
+     * 허용량은 렌더링 작업 등록 전에 얻고, 문서를 ZIP에 기록한 뒤(실패면 즉시) 돌려준다.
+     */
+    private static final class PendingDocuments {
+        private final Semaphore permits;
+        private final BlockingQueue<RenderedDocument> completed = new LinkedBlockingQueue<>();
+        private volatile boolean cancelled;
+
+        PendingDocuments(int maxPending) {
+            this.permits = new Semaphore(maxPending);
+        }
+
+        boolean acquire() {
+            try {
+                while (!cancelled) {
+                    if (permits.tryAcquire(CANCEL_CHECK_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        void release() {
+            permits.release();
+        }
+
+        void complete(RenderedDocument document) {
+            if (!cancelled) {
+                completed.add(document);
+            }
+        }
+
+        /**
+         * 다음 완성 문서 (마감 시간 + 여유 시간까지 없으면 null)
+         */
+        RenderedDocument take(Deadline deadline) throws InterruptedException {
+            if (deadline.isUnbounded()) {
+                return completed.take();
+            }
+            return completed.poll(deadline.remainingMillis() + RESULT_GRACE_MS, TimeUnit.MILLISECONDS);
+        }
+
+        void cancel() {
+            cancelled = true;
+            completed.clear();
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * 렌더링된 문서 또는 실패 사유
+     */
+    private static final class RenderedDocument {
+        private final ReportTarget target;
+        private final ByteArrayOutputStream pdf;
+        private final long crc;
+        private final String error;
+
+        private RenderedDocument(ReportTarget target, ByteArrayOutputStream pdf, long crc, String error) {
+            this.target = target;
+            this.pdf = pdf;
+            this.crc = crc;
+            this.error = error;
+        }
+
+        static RenderedDocument rendered(ReportTarget target, ByteArrayOutputStream pdf, long crc) {
+            return new RenderedDocument(target, pdf, crc, null);
+        }
+
+        static RenderedDocument failed(ReportTarget target, String error) {
+            return new RenderedDocument(target, null, 0, error);
+        }
+    }
+}
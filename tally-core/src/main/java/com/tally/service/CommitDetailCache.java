@@ -0,0 +1,49 @@
+package com.tally.service;
+
+import com.tally.dto.CommitFileStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커밋 파일 통계 LRU 캐시
+ * 커밋 내용은 SHA가 같으면 바뀌지 않으므로 만료 없이 개수로만 제한
+ */
+public class CommitDetailCache {
+    public static final int DEFAULT_MAX_ENTRIES = 5_000;
+
+    private final Map<String, CommitFileStats> entries;
+
+    public CommitDetailCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public CommitDetailCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CommitFileStats> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized CommitFileStats get(String owner, String repo, String sha) {
+        return entries.get(key(owner, repo, sha));
+    }
+
+    public synchronized boolean contains(String owner, String repo, String sha) {
+        return entries.containsKey(key(owner, repo, sha));
+    }
+
+    public synchronized void put(String owner, String repo, String sha, CommitFileStats stats) {
+        entries.put(key(owner, repo, sha), stats);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static String key(String owner, String repo, String sha) {
+        return owner + "/" + repo + "@" + sha;
+    }
+}
@@ -0,0 +1,78 @@
+package com.tally.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tally.dto.CommitFileStats;
+import com.tally.util.GitHubJson;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 커밋 상세 스트리밍 파서 (통계 전용)
+ * files[]의 filename/status/additions/deletions/changes만 읽고 patch 등 나머지 값은 디코딩하지 않고 건너뜀
+ */
+final class CommitDetailParser {
+    private CommitDetailParser() {
+    }
+
+    static CommitFileStats parse(InputStream body) throws IOException {
+        try (JsonParser parser = GitHubJson.factory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object for commit detail");
+            }
+
+            CommitFileStats stats = new CommitFileStats();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("sha".equals(field)) {
+                    stats.setSha(parser.getValueAsString());
+                } else if ("stats".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String statField = parser.getCurrentName();
+                        parser.nextToken();
+                        if ("additions".equals(statField)) {
+                            stats.setAdditions(parser.getValueAsInt());
+                        } else if ("deletions".equals(statField)) {
+                            stats.setDeletions(parser.getValueAsInt());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("files".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        stats.getFiles().add(parseFile(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return stats;
+        }
+    }
+
+    private static CommitFileStats.FileStat parseFile(JsonParser parser) throws IOException {
+        CommitFileStats.FileStat file = new CommitFileStats.FileStat();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("filename".equals(field)) {
+                file.setFilename(parser.getValueAsString());
+            } else if ("status".equals(field)) {
+                file.setStatus(parser.getValueAsString());
+            } else if ("additions".equals(field)) {
+                file.setAdditions(parser.getValueAsInt());
+            } else if ("deletions".equals(field)) {
+                file.setDeletions(parser.getValueAsInt());
+            } else if ("changes".equals(field)) {
+                file.setChanges(parser.getValueAsInt());
+            } else {
+                // patch, blob_url 등은 값을 읽지 않고 건너뜀
+                parser.skipChildren();
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package com.tally.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tally.util.GitHubJson;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 커밋 목록 페이지 스트리밍 파서
+ * 커밋 객체를 만들지 않고 sha, author.login/avatar_url, commit.author.name/date만 읽어 콜백으로 전달
+ */
+final class CommitPageParser {
+    private CommitPageParser() {
+    }
+
+    /**
+     * 페이지 파싱 (커밋 수 반환)
+     */
+    static int parse(InputStream body, GitHubService.CommitConsumer consumer) throws IOException {
+        try (JsonParser parser = GitHubJson.factory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of commits");
+            }
+
+            int count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parseCommit(parser, consumer);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private static void parseCommit(JsonParser parser, GitHubService.CommitConsumer consumer) throws IOException {
+        String sha = null;
+        String login = null;
+        String avatarUrl = null;
+        String authorName = null;
+        String date = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if ("sha".equals(field)) {
+                sha = parser.getValueAsString();
+            } else if ("author".equals(field) && value == JsonToken.START_OBJECT) {
+                // GitHub 계정 (연결되지 않은 커밋은 null)
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String authorField = parser.getCurrentName();
+                    parser.nextToken();
+                    if ("login".equals(authorField)) {
+                        login = parser.getValueAsString();
+                    } else if ("avatar_url".equals(authorField)) {
+                        avatarUrl = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("commit".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String commitField = parser.getCurrentName();
+                    JsonToken commitValue = parser.nextToken();
+                    if ("author".equals(commitField) && commitValue == JsonToken.START_OBJECT) {
+                        // git 작성자 정보
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String gitField = parser.getCurrentName();
+                            parser.nextToken();
+                            if ("name".equals(gitField)) {
+                                authorName = parser.getValueAsString();
+                            } else if ("date".equals(gitField)) {
+                                date = parser.getValueAsString();
+                            } else {
+                                parser.skipChildren();
+                            }
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        consumer.accept(sha, login, avatarUrl, authorName, date);
+    }
+}
@@ -0,0 +1,697 @@
+package com.tally.service;
+
+import com.tally.domain.*;
+import com.tally.dto.CommitFileStats;
+import com.tally.dto.CommitSummary;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class ContributionAnalysisService {
+    // 역할 분석 표본의 목표 오차 범위 (95% 신뢰수준, ±10%p)
+    public static final double DEFAULT_MARGIN_OF_ERROR = 0.10;
+
+    // 커밋 상세 동시 조회 수
+    private static final int DETAIL_PARALLELISM = 8;
+
+    // 층화 표본의 시간 구간 수
+    private static final int STRATA_COUNT = 8;
+
+    // 백그라운드 정밀화에서 한 번에 조회하는 최대 커밋 상세 수 (사용자 토큰 시간당 한도 5000의 3%)
+    private static final int MAX_REFINEMENT_FETCHES = 150;
+    // 정밀화를 마친 뒤에도 사용자의 다음 요청을 위해 남겨둘 API 호출 수 (남은 한도가 이보다 적으면 정밀화하지 않음)
+    private static final int REFINEMENT_RATE_LIMIT_RESERVE = 1_000;
+
+    // 커밋 목록 페이지 조회를 멈추고 PR/Issue와 역할 분석(커밋 상세 최대 ~97건, 8개씩 병렬)에 남겨둘 시간
+    private static final long ROLE_ANALYSIS_RESERVE_MS = 8_000;
+
+    private final GitHubService gitHubService;
+    private final CommitDetailCache detailCache;
+    private final ContributionStatsCache statsCache;  // null이면 결과 캐시 사용 안 함
+    private final double marginOfError;
+    private final boolean backgroundRefinement;
+    private final ExecutorService detailExecutor;
+    private final ExecutorService refinementExecutor;
+    private final Set<String> refining = ConcurrentHashMap.newKeySet();
+
+    public ContributionAnalysisService() {
+        this(new GitHubService());
+    }
+
+    public ContributionAnalysisService(GitHubService gitHubService) {
+        this(gitHubService, new CommitDetailCache(), new ContributionStatsCache(), DEFAULT_MARGIN_OF_ERROR, false);
+    }
+
+    /**
+     * @param statsCache           브랜치 HEAD가 그대로인 (레포지토리, 사용자)의 결과를 재사용 (null이면 매번 분석)
+     * @param backgroundRefinement 표본 분석 후 나머지 커밋 상세를 백그라운드로 캐시에 채워 다음 분석을 전수 분석으로 만듦
+     */
+    public ContributionAnalysisService(GitHubService gitHubService, CommitDetailCache detailCache,
+                                       ContributionStatsCache statsCache,
+                                       double marginOfError, boolean backgroundRefinement) {
+        this.gitHubService = gitHubService;
+        this.detailCache = detailCache;
+        this.statsCache = statsCache;
+        this.marginOfError = marginOfError;
+        this.backgroundRefinement = backgroundRefinement;
+        this.detailExecutor = newDaemonPool(DETAIL_PARALLELISM, "commit-detail-");
+        this.refinementExecutor = newDaemonPool(1, "role-refinement-");
+    }
+
+    private static ExecutorService newDaemonPool(int threads, String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 레포지토리 기여도 분석
+     */
+    public ContributionStats analyzeContribution(String token, String owner, String repo, String username) {
+        return analyzeContribution(token, owner, repo, username, Deadline.none());
+    }
+
+    /**
+     * 레포지토리 기여도 분석 (마감 시간이 지나면 남은 조회를 건너뛰고 partial 결과 반환)
+     * 브랜치 HEAD가 이전 분석과 같으면 캐시된 결과를 반환
+     */
+    public ContributionStats analyzeContribution(String token, String owner, String repo, String username,
+                                                 Deadline deadline) {
+        if (statsCache == null) {
+            return computeContribution(token, owner, repo, username, deadline);
+        }
+
+        // 브랜치 조회는 사용자 토큰으로 하므로 접근 권한이 없는 레포의 캐시는 반환되지 않음
+        Map<String, String> branchHeads = gitHubService.getBranchHeads(token, owner, repo);
+        if (branchHeads == null || branchHeads.isEmpty()) {
+            return computeContribution(token, owner, repo, username, deadline);
+        }
+
+        ContributionStats cached = statsCache.get(owner, repo, username, branchHeads);
+        if (cached != null) {
+            log.info("Contribution stats cache hit for user {} in {}/{} (hit ratio {})",
+                    username, owner, repo, String.format("%.2f", statsCache.hitRatio()));
+            return cached;
+        }
+
+        ContributionStats stats = computeContribution(token, owner, repo, username, deadline);
+        cacheIfComplete(owner, repo, username, branchHeads, stats);
+        return stats;
+    }
+
+    /**
+     * 한 레포지토리의 여러 사용자 기여도 분석 (팀 리포트 일괄 생성용)
+     * 커밋/PR/Issue는 레포지토리당 한 번만 조회해 모든 사용자가 공유하고, 캐시에 있는 사용자는 조회 없이 반환
+     * 결과 맵의 순서는 usernames 순서 (중복은 한 번만)
+     */
+    public Map<String, ContributionStats> analyzeContributions(String token, String owner, String repo,
+                                                               Collection<String> usernames, Deadline deadline) {
+        Map<String, ContributionStats> results = new LinkedHashMap<>();
+        for (String username : usernames) {
+            results.put(username, null);
+        }
+
+        Map<String, String> branchHeads = statsCache != null ? gitHubService.getBranchHeads(token, owner, repo) : null;
+        boolean cacheable = branchHeads != null && !branchHeads.isEmpty();
+        List<String> uncached = new ArrayList<>();
+        for (String username : results.keySet()) {
+            ContributionStats cached = cacheable ? statsCache.get(owner, repo, username, branchHeads) : null;
+            if (cached != null) {
+                results.put(username, cached);
+            } else {
+                uncached.add(username);
+            }
+        }
+        if (uncached.isEmpty()) {
+            log.info("Contribution stats cache hit for all {} users in {}/{}", results.size(), owner, repo);
+            return results;
+        }
+
+        RepositoryActivity activity = fetchActivity(token, owner, repo, deadline);
+        for (String username : uncached) {
+            ContributionStats stats = computeContribution(token, owner, repo, username, deadline, activity);
+            if (cacheable) {
+                cacheIfComplete(owner, repo, username, branchHeads, stats);
+            }
+            results.put(username, stats);
+        }
+        log.info("Analyzed {} users in {}/{} with one fetch pass ({} from cache)",
+                uncached.size(), owner, repo, results.size() - uncached.size());
+        return results;
+    }
+
+    /**
+     * partial 결과는 저장하지 않음. 백그라운드 정밀화가 켜져 있으면 표본 추정치도 저장하지 않음 (다음 분석이 전수 분석)
+     */
+    private void cacheIfComplete(String owner, String repo, String username, Map<String, String> branchHeads,
+                                 ContributionStats stats) {
+        if (!stats.isPartial() && (stats.isRoleAnalysisExact() || !backgroundRefinement)) {
+            statsCache.put(owner, repo, username, branchHeads, stats);
+        }
+    }
+
+    /**
+     * 레포지토리 전체 활동 조회 (커밋, PR, Issue) - 사용자별 분석에서 공유
+     */
+    private RepositoryActivity fetchActivity(String token, String owner, String repo, Deadline deadline) {
+        AnalysisCoverage coverage = new AnalysisCoverage();
+        coverage.addRepository(owner + "/" + repo);
+
+        // 1. 커밋 데이터 수집 (분석에 필요한 필드만 파싱, 다음 페이지는 역할 분석 시간을 남기는 동안만)
+        List<CommitSummary> commits = gitHubService.getRepositoryCommitSummaries(
+                token, owner, repo, deadline.minus(ROLE_ANALYSIS_RESERVE_MS), coverage);
+
+        // 2. PR 데이터 수집
+        List<PullRequest> pullRequests = fetchUnlessExpired(deadline, coverage,
+                () -> gitHubService.getRepositoryPullRequests(token, owner, repo));
+
+        // 3. Issue 데이터 수집
+        List<Issue> issues = fetchUnlessExpired(deadline, coverage,
+                () -> gitHubService.getRepositoryIssues(token, owner, repo));
+
+        return new RepositoryActivity(commits, pullRequests, issues, coverage);
+    }
+
+    private ContributionStats computeContribution(String token, String owner, String repo, String username,
+                                                  Deadline deadline) {
+        return computeContribution(token, owner, repo, username, deadline, fetchActivity(token, owner, repo, deadline));
+    }
+
+    private ContributionStats computeContribution(String token, String owner, String repo, String username,
+                                                  Deadline deadline, RepositoryActivity activity) {
+        log.info("Analyzing contribution for user {} in repo {}/{} ({})", username, owner, repo, deadline);
+
+        // 조회 범위는 공유하고, 역할 분석 범위는 사용자별로 더함
+        AnalysisCoverage coverage = new AnalysisCoverage();
+        coverage.merge(activity.coverage);
+
+        List<CommitSummary> commits = activity.commits;
+        List<PullRequest> allPRs = activity.pullRequests;
+
+        // 사용자의 PR만 필터링
+        List<PullRequest> userPRs = allPRs.stream()
+                .filter(pr -> {
+                    if (pr.getUser() != null && pr.getUser().getLogin() != null) {
+                        return username.equalsIgnoreCase(pr.getUser().getLogin());
+                    }
+                    return false;
+                })
+                .collect(Collectors.toList());
+
+        // 사용자의 Issue만 필터링
+        List<Issue> userIssues = activity.issues.stream()
+                .filter(issue -> {
+                    if (issue.getUser() != null && issue.getUser().getLogin() != null) {
+                        return username.equalsIgnoreCase(issue.getUser().getLogin());
+                    }
+                    return false;
+                })
+                .collect(Collectors.toList());
+
+        // 4. 커밋 통계 계산
+        long totalCommits = commits.size();
+        List<CommitSummary> userCommitList = commits.stream()
+                .filter(commit -> {
+                    if (commit.getCommit() != null && commit.getCommit().getAuthor() != null) {
+                        String authorName = commit.getCommit().getAuthor().getName();
+                        return authorName != null && username.equalsIgnoreCase(authorName);
+                    }
+                    return false;
+                })
+                .collect(Collectors.toList());
+
+        long userCommits = userCommitList.size();
+
+        // 4.1 활동 기간 계산 (사용자 커밋 날짜 기준)
+        String firstCommitDate = null;
+        String lastCommitDate = null;
+        if (!userCommitList.isEmpty()) {
+            List<String> commitDates = userCommitList.stream()
+                    .filter(c -> c.getCommit() != null && c.getCommit().getAuthor() != null
+                            && c.getCommit().getAuthor().getDate() != null)
+                    .map(c -> c.getCommit().getAuthor().getDate().substring(0, 10)) // YYYY-MM-DD
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            if (!commitDates.isEmpty()) {
+                firstCommitDate = commitDates.get(0);
+                lastCommitDate = commitDates.get(commitDates.size() - 1);
+            }
+        }
+
+        double commitPercentage = totalCommits > 0
+                ? (double) userCommits / totalCommits * 100
+                : 0.0;
+
+        // 4.5 커밋 메시지 추출 (AI 분석용, 최근 30개)
+        List<String> commitMessages = userCommitList.stream()
+                .filter(c -> c.getCommit() != null && c.getCommit().getMessage() != null)
+                .map(c -> c.getCommit().getMessage().split("\n")[0]) // 첫 줄만 (제목)
+                .limit(30)
+                .collect(Collectors.toList());
+
+        // 5. 역할 분석 수행
+        RoleAnalysis roleAnalysis = analyzeRoles(
+                token, owner, repo, username, userCommitList, deadline, coverage
+        );
+        Map<String, ContributionStats.RoleStats> roleDistribution = roleAnalysis.distribution;
+
+        // 6. ContributionStats 생성 (Builder 패턴 사용)
+        ContributionStats stats = ContributionStats.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(username)
+                .username(username)
+                .repositoryFullName(owner + "/" + repo)
+                .firstCommitDate(firstCommitDate)
+                .lastCommitDate(lastCommitDate)
+                .totalCommits((int) totalCommits)
+                .userCommits((int) userCommits)
+                .commitPercentage(commitPercentage)
+                .additions(roleAnalysis.additions)
+                .deletions(roleAnalysis.deletions)
+                .languageDistribution(roleAnalysis.languageDistribution)
+                .roleDistribution(roleDistribution)
+                .roleAnalysisExact(roleAnalysis.exact)
+                .commitHistoryComplete(coverage.isCommitHistoryComplete())
+                .pullRequests(userPRs)
+                .issues(userIssues)
+                .commitMessages(commitMessages)
+                .analyzedAt(LocalDateTime.now())
+                .partial(coverage.isPartial())
+                .coverage(coverage)
+                .build();
+
+        log.info("Contribution analysis completed for {}/{} - User: {}, Commits: {}/{} ({}%), PRs: {}, Issues: {}, Roles: {}, Partial: {}",
+                owner, repo, username, userCommits, totalCommits,
+                String.format("%.1f", commitPercentage),
+                userPRs.size(), userIssues.size(), roleDistribution.keySet(), coverage.isPartial());
+
+        return stats;
+    }
+
+    /**
+     * 역할 분석
+     * 사용자 커밋 전체 기간을 시간 구간(층)으로 나눠 층화 표본을 뽑고, 역할별 비율과 95% 신뢰구간을 계산
+     * 모든 커밋 상세가 캐시에 있거나 표본 크기가 전체와 같으면 전수 분석
+     */
+    private RoleAnalysis analyzeRoles(
+            String token, String owner, String repo, String username, List<CommitSummary> userCommits,
+            Deadline deadline, AnalysisCoverage coverage) {
+
+        // 시간순 정렬 (날짜 없는 커밋은 앞쪽)
+        List<CommitSummary> timeline = new ArrayList<>(userCommits);
+        timeline.sort(Comparator.comparing(ContributionAnalysisService::commitDate,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        int population = timeline.size();
+
+        boolean allCached = timeline.stream().allMatch(c -> detailCache.contains(owner, repo, c.getSha()));
+        int sampleSize = allCached
+                ? population
+                : StratifiedSampler.sampleSize(population, marginOfError, StratifiedSampler.Z_95);
+        boolean census = sampleSize >= population;
+
+        int[] bounds;
+        int[] selected;
+        if (census) {
+            bounds = new int[]{0, population};
+            selected = new int[population];
+            for (int i = 0; i < population; i++) {
+                selected[i] = i;
+            }
+        } else {
+            // 같은 사용자/레포는 같은 표본을 뽑아 캐시를 재사용
+            bounds = StratifiedSampler.strata(population, STRATA_COUNT);
+            selected = StratifiedSampler.sample(bounds, sampleSize,
+                    new Random(Objects.hash(owner, repo, username.toLowerCase())));
+        }
+
+        log.info("Analyzing {} commits out of {} fetched ({})", selected.length, population,
+                census ? "census" : String.format("stratified sample, ±%.0f%%p", marginOfError * 100));
+
+        CommitFileStats[] details = fetchDetails(token, owner, repo, timeline, selected, deadline, coverage);
+
+        int strataCount = bounds.length - 1;
+        int[] analyzedPerStratum = new int[strataCount];
+        long[] linesPerStratum = new long[strataCount];       // additions + deletions
+        long[] additionsPerStratum = new long[strataCount];
+        long[] deletionsPerStratum = new long[strataCount];
+        Map<String, int[]> roleCountPerStratum = new HashMap<>();
+        Map<String, long[]> roleLinesPerStratum = new HashMap<>();
+        long[][] languageLinesPerStratum = new long[LanguageDetector.languageCount()][strataCount];
+        Map<String, Integer> roleCommitCount = new HashMap<>();
+        Map<String, List<String>> roleFileExamples = new HashMap<>(); // 파일 예시 저장
+        int totalAnalyzedCommits = 0;
+
+        for (int i = 0; i < selected.length; i++) {
+            CommitFileStats detailedCommit = details[i];
+            if (detailedCommit == null || detailedCommit.getFiles() == null) {
+                continue;
+            }
+
+            int stratum = stratumOf(bounds, selected[i]);
+            analyzedPerStratum[stratum]++;
+            totalAnalyzedCommits++;
+
+            // 이 커밋에서 변경된 파일들을 역할로 분류
+            Set<String> rolesInCommit = new HashSet<>();
+
+            for (CommitFileStats.FileStat file : detailedCommit.getFiles()) {
+                String role = FileRoleClassifier.categorize(file.getFilename());
+                rolesInCommit.add(role);
+
+                // 변경 라인 수 (같은 순회에서 역할별 라인 가중치와 전체 추가/삭제 집계)
+                int lines = file.getAdditions() + file.getDeletions();
+                roleLinesPerStratum.computeIfAbsent(role, k -> new long[strataCount])[stratum] += lines;
+                linesPerStratum[stratum] += lines;
+                additionsPerStratum[stratum] += file.getAdditions();
+                deletionsPerStratum[stratum] += file.getDeletions();
+
+                int language = LanguageDetector.languageOf(file.getFilename());
+                if (language >= 0) {
+                    languageLinesPerStratum[language][stratum] += lines;
+                }
+
+                // 파일 예시 수집 (각 역할당 최대 5개)
+                roleFileExamples.computeIfAbsent(role, k -> new ArrayList<>());
+                if (roleFileExamples.get(role).size() < 5) {
+                    roleFileExamples.get(role).add(file.getFilename());
+                }
+            }
+
+            // 각 역할에 커밋 카운트 추가
+            for (String role : rolesInCommit) {
+                roleCommitCount.put(role, roleCommitCount.getOrDefault(role, 0) + 1);
+                roleCountPerStratum.computeIfAbsent(role, k -> new int[strataCount])[stratum]++;
+            }
+        }
+
+        coverage.addAnalyzedCommitDetails(totalAnalyzedCommits);
+
+        // 분석된 커밋이 있는 층의 모집단 크기 (층 가중치의 분모)
+        int coveredPopulation = 0;
+        for (int h = 0; h < strataCount; h++) {
+            if (analyzedPerStratum[h] > 0) {
+                coveredPopulation += bounds[h + 1] - bounds[h];
+            }
+        }
+
+        // 층별 커밋당 평균을 층 크기로 가중 합산한 값 (전수 분석이면 그대로 합계)
+        double estimatedLines = stratifiedTotal(linesPerStratum, analyzedPerStratum, bounds, coveredPopulation, population);
+        long additions = Math.round(stratifiedTotal(additionsPerStratum, analyzedPerStratum, bounds, coveredPopulation, population));
+        long deletions = Math.round(stratifiedTotal(deletionsPerStratum, analyzedPerStratum, bounds, coveredPopulation, population));
+
+        // 언어별 변경 라인 수 (많은 순)
+        long[] languageLines = new long[languageLinesPerStratum.length];
+        for (int language = 0; language < languageLines.length; language++) {
+            languageLines[language] = Math.round(stratifiedTotal(
+                    languageLinesPerStratum[language], analyzedPerStratum, bounds, coveredPopulation, population));
+        }
+        Map<String, Integer> languageDistribution = LanguageDetector.toDistribution(languageLines);
+
+        // RoleStats 객체로 변환 (층별 비율을 층 크기로 가중 평균)
+        Map<String, ContributionStats.RoleStats> roleDistribution = new HashMap<>();
+
+        for (Map.Entry<String, Integer> entry : roleCommitCount.entrySet()) {
+            String roleName = entry.getKey();
+            int[] perStratum = roleCountPerStratum.get(roleName);
+
+            double proportion = 0.0;
+            for (int h = 0; h < strataCount; h++) {
+                if (analyzedPerStratum[h] > 0) {
+                    proportion += (double) (bounds[h + 1] - bounds[h]) / coveredPopulation
+                            * perStratum[h] / analyzedPerStratum[h];
+                }
+            }
+            double[] interval = StratifiedSampler.wilsonInterval(
+                    proportion, totalAnalyzedCommits, population, StratifiedSampler.Z_95);
+
+            // 라인 가중 비율 (역할 변경 라인 추정치 / 전체 변경 라인 추정치)
+            long[] roleLines = roleLinesPerStratum.getOrDefault(roleName, new long[strataCount]);
+            double lineShare = estimatedLines > 0
+                    ? stratifiedTotal(roleLines, analyzedPerStratum, bounds, coveredPopulation, population) / estimatedLines
+                    : 0.0;
+            long observedLines = 0;
+            for (long lines : roleLines) {
+                observedLines += lines;
+            }
+
+            roleDistribution.put(roleName, ContributionStats.RoleStats.builder()
+                    .roleName(roleName)
+                    .commitCount(entry.getValue())
+                    .percentage(proportion * 100)
+                    .confidenceLow(interval[0] * 100)
+                    .confidenceHigh(interval[1] * 100)
+                    .lines(observedLines)
+                    .linePercentage(lineShare * 100)
+                    .build());
+        }
+
+        boolean exact = totalAnalyzedCommits == population;
+        log.info("Role analysis completed: {} roles analyzed from {}/{} commits (exact: {})",
+                roleDistribution.size(), totalAnalyzedCommits, population, exact);
+
+        // 커밋이 5개 이하면 각 역할별 파일 예시 로깅
+        if (totalAnalyzedCommits <= 5) {
+            log.info("=== Detailed role file breakdown (total commits: {}) ===", totalAnalyzedCommits);
+            for (Map.Entry<String, List<String>> entry : roleFileExamples.entrySet()) {
+                log.info("  [{}] files: {}", entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (!exact && backgroundRefinement) {
+            scheduleRefinement(token, owner, repo, username, timeline);
+        }
+
+        return new RoleAnalysis(roleDistribution, exact, (int) additions, (int) deletions, languageDistribution);
+    }
+
+    /**
+     * 층화 추정 합계: 층마다 (분석한 커밋당 평균 × 층 크기)를 더하고, 분석 못 한 층은 전체 크기 비율로 보정
+     */
+    private static double stratifiedTotal(long[] perStratum, int[] analyzedPerStratum, int[] bounds,
+                                          int coveredPopulation, int population) {
+        if (coveredPopulation == 0) {
+            return 0.0;
+        }
+        double total = 0.0;
+        for (int h = 0; h < perStratum.length; h++) {
+            if (analyzedPerStratum[h] > 0) {
+                total += (double) perStratum[h] / analyzedPerStratum[h] * (bounds[h + 1] - bounds[h]);
+            }
+        }
+        return total * population / coveredPopulation;
+    }
+
+    /**
+     * 선택된 커밋의 파일 통계 조회 (캐시 우선, 나머지는 병렬 조회)
+     * 마감 시간까지 끝나지 않은 조회는 취소하고 null로 남김
+     */
+    private CommitFileStats[] fetchDetails(String token, String owner, String repo, List<CommitSummary> timeline,
+                                           int[] selected, Deadline deadline, AnalysisCoverage coverage) {
+        List<CompletableFuture<CommitFileStats>> futures = new ArrayList<>(selected.length);
+
+        for (int index : selected) {
+            String sha = timeline.get(index).getSha();
+            CommitFileStats cached = detailCache.get(owner, repo, sha);
+            if (cached != null) {
+                futures.add(CompletableFuture.completedFuture(cached));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                // 대기열에서 기다리는 동안 마감 시간이 지났으면 조회하지 않음
+                if (deadline.isExpired()) {
+                    coverage.markPartial();
+                    return null;
+                }
+                return fetchDetail(token, owner, repo, sha);
+            }, detailExecutor));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        try {
+            if (deadline.isUnbounded()) {
+                all.join();
+            } else {
+                all.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            log.warn("Deadline reached, role analysis continues with completed commit details only");
+            coverage.markPartial();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            coverage.markPartial();
+        } catch (Exception e) {
+            // 개별 조회 실패는 null로 처리됨
+            log.debug("Commit detail fetch finished with error: {}", e.getMessage());
+        }
+
+        CommitFileStats[] details = new CommitFileStats[selected.length];
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<CommitFileStats> future = futures.get(i);
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                details[i] = future.getNow(null);
+            } else {
+                future.cancel(true);
+            }
+        }
+        return details;
+    }
+
+    private CommitFileStats fetchDetail(String token, String owner, String repo, String sha) {
+        CommitFileStats stats = gitHubService.getCommitFileStats(token, owner, repo, sha);
+        if (stats != null) {
+            detailCache.put(owner, repo, sha, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 나머지 커밋 상세를 백그라운드로 캐시에 채움 (다음 분석은 전수 분석에 가까워짐)
+     * 사용자가 요청하지 않은 호출이므로 한 번에 MAX_REFINEMENT_FETCHES까지, 그리고 토큰의 남은 한도에서
+     * REFINEMENT_RATE_LIMIT_RESERVE를 뺀 만큼만 조회한다 (한도를 모르면 정밀화하지 않음).
+     */
+    private void scheduleRefinement(String token, String owner, String repo, String username,
+                                    List<CommitSummary> commits) {
+        String key = owner + "/" + repo + ":" + username.toLowerCase();
+        if (!refining.add(key)) {
+            return;
+        }
+
+        refinementExecutor.execute(() -> {
+            try {
+                int budget = Math.min(MAX_REFINEMENT_FETCHES,
+                        gitHubService.getRemainingRateLimit(token) - REFINEMENT_RATE_LIMIT_RESERVE);
+                if (budget <= 0) {
+                    log.info("Role analysis refinement for {} skipped: rate limit budget too low", key);
+                    return;
+                }
+                int fetched = 0;
+                for (CommitSummary commit : commits) {
+                    if (fetched >= budget) {
+                        break;
+                    }
+                    if (!detailCache.contains(owner, repo, commit.getSha())) {
+                        fetchDetail(token, owner, repo, commit.getSha());
+                        fetched++;
+                    }
+                }
+                log.info("Role analysis refinement for {} cached {} more commit details", key, fetched);
+            } catch (RuntimeException e) {
+                log.warn("Role analysis refinement for {} failed: {}", key, e.getMessage());
+            } finally {
+                refining.remove(key);
+            }
+        });
+    }
+
+    private static int stratumOf(int[] bounds, int index) {
+        int stratum = 0;
+        while (index >= bounds[stratum + 1]) {
+            stratum++;
+        }
+        return stratum;
+    }
+
+    private static String commitDate(CommitSummary commit) {
+        return commit.getCommit() != null && commit.getCommit().getAuthor() != null
+                ? commit.getCommit().getAuthor().getDate()
+                : null;
+    }
+
+    /**
+     * 역할 분석 결과 (exact: 모든 사용자 커밋을 분석했는지 여부, 아니면 additions/deletions도 추정치)
+     */
+    private static class RoleAnalysis {
+        private final Map<String, ContributionStats.RoleStats> distribution;
+        private final boolean exact;
+        private final int additions;
+        private final int deletions;
+        private final Map<String, Integer> languageDistribution;
+
+        RoleAnalysis(Map<String, ContributionStats.RoleStats> distribution, boolean exact,
+                     int additions, int deletions, Map<String, Integer> languageDistribution) {
+            this.distribution = distribution;
+            this.exact = exact;
+            this.additions = additions;
+            this.deletions = deletions;
+            this.languageDistribution = languageDistribution;
+        }
+    }
+
+    /**
+     * 레포지토리 단위 조회 결과 (읽기 전용으로 여러 사용자 분석에서 공유)
+     */
+    private static class RepositoryActivity {
+        private final List<CommitSummary> commits;
+        private final List<PullRequest> pullRequests;
+        private final List<Issue> issues;
+        private final AnalysisCoverage coverage;
+
+        RepositoryActivity(List<CommitSummary> commits, List<PullRequest> pullRequests, List<Issue> issues,
+                           AnalysisCoverage coverage) {
+            this.commits = commits;
+            this.pullRequests = pullRequests;
+            this.issues = issues;
+            this.coverage = coverage;
+        }
+    }
+
+    /**
+     * 마감 시간이 지났으면 조회하지 않고 빈 목록 반환
+     */
+    private <T> List<T> fetchUnlessExpired(Deadline deadline, AnalysisCoverage coverage,
+                                           Supplier<List<T>> fetcher) {
+        if (deadline.isExpired()) {
+            coverage.markPartial();
+            return new ArrayList<>();
+        }
+        return fetcher.get();
+    }
+
+    /**
+     * 사용자의 PR 목록 조회 (ReportGenerationService에서 사용)
+     */
+    public List<PullRequest> getUserPullRequests(String token, String owner, String repo, String username) {
+        List<PullRequest> pullRequests = gitHubService.getRepositoryPullRequests(token, owner, repo);
+
+        return pullRequests.stream()
+                .filter(pr -> {
+                    if (pr.getUser() != null && pr.getUser().getLogin() != null) {
+                        return username.equalsIgnoreCase(pr.getUser().getLogin());
+                    }
+                    return false;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 사용자의 Issue 목록 조회 (ReportGenerationService에서 사용)
+     */
+    public List<Issue> getUserIssues(String token, String owner, String repo, String username) {
+        List<Issue> issues = gitHubService.getRepositoryIssues(token, owner, repo);
+
+        return issues.stream()
+                .filter(issue -> {
+                    if (issue.getUser() != null && issue.getUser().getLogin() != null) {
+                        return username.equalsIgnoreCase(issue.getUser().getLogin());
+                    }
+                    return false;
+                })
+                .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.tally.service;
+
+import com.tally.domain.CachedContributionStats;
+import com.tally.domain.ContributionStats;
+import com.tally.util.JsonFileUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기여도 분석 결과 2단계 캐시 (메모리 LRU + 선택적으로 디스크)
+ *
+ * 키는 (레포지토리, 사용자)이고, 저장할 때의 브랜치 HEAD 목록이 조회 시점과 다르면 무효로 본다.
+ * 브랜치 조회는 API 한 번이므로 커밋 전체 조회 없이 변경 여부를 확인할 수 있다.
+ * PR/Issue는 브랜치 HEAD에 반영되지 않으므로 maxAge가 지나면 다시 분석한다.
+ */
+@Slf4j
+public class ContributionStatsCache {
+    public static final int DEFAULT_MAX_ENTRIES = 500;
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(24);
+
+    private static final String FILE_SUFFIX = ".json";
+
+    private final Map<String, CachedContributionStats> entries;
+    private final String directory;  // null이면 메모리에만 보관
+    private final Duration maxAge;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong staleEntries = new AtomicLong();
+
+    public ContributionStatsCache() {
+        this(DEFAULT_MAX_ENTRIES, null, DEFAULT_MAX_AGE);
+    }
+
+    public ContributionStatsCache(int maxEntries, String directory, Duration maxAge) {
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedContributionStats> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.directory = directory == null || directory.isEmpty() ? null : directory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 브랜치 HEAD가 같고 maxAge가 지나지 않은 결과 조회 (없으면 null)
+     */
+    public ContributionStats get(String owner, String repo, String username, Map<String, String> branchHeads) {
+        String key = key(owner, repo, username);
+
+        CachedContributionStats entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        boolean fromDisk = false;
+        if (entry == null && directory != null) {
+            entry = loadFromDisk(key);
+            fromDisk = entry != null;
+        }
+
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (!branchHeads.equals(entry.getBranchHeads())
+                || System.currentTimeMillis() - entry.getComputedAt() > maxAge.toMillis()) {
+            staleEntries.incrementAndGet();
+            misses.incrementAndGet();
+            invalidate(owner, repo, username);
+            return null;
+        }
+
+        if (fromDisk) {
+            diskHits.incrementAndGet();
+            synchronized (entries) {
+                entries.putIfAbsent(key, entry);
+            }
+        } else {
+            memoryHits.incrementAndGet();
+        }
+        return entry.getStats();
+    }
+
+    public void put(String owner, String repo, String username, Map<String, String> branchHeads,
+                    ContributionStats stats) {
+        String key = key(owner, repo, username);
+        CachedContributionStats entry = CachedContributionStats.builder()
+                .key(key)
+                .branchHeads(branchHeads)
+                .stats(stats)
+                .computedAt(System.currentTimeMillis())
+                .build();
+
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+
+        if (directory != null) {
+            try {
+                JsonFileUtil.writeToFile(filePath(key), entry);
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist contribution stats for {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 결과 제거 (메모리와 디스크 모두)
+     */
+    public void invalidate(String owner, String repo, String username) {
+        String key = key(owner, repo, username);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+        if (directory != null) {
+            JsonFileUtil.deleteFile(filePath(key));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long memoryHits() {
+        return memoryHits.get();
+    }
+
+    public long diskHits() {
+        return diskHits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * 브랜치 HEAD가 바뀌었거나 maxAge가 지나 무효가 된 조회 수 (misses에 포함)
+     */
+    public long staleEntries() {
+        return staleEntries.get();
+    }
+
+    /**
+     * 적중률 (메모리 + 디스크 적중 / 전체 조회, 조회가 없으면 0)
+     */
+    public double hitRatio() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+        return total > 0 ? (double) hits / total : 0.0;
+    }
+
+    private CachedContributionStats loadFromDisk(String key) {
+        String path = filePath(key);
+        if (!JsonFileUtil.fileExists(path)) {
+            return null;
+        }
+
+        CachedContributionStats entry = JsonFileUtil.readFromFile(path, CachedContributionStats.class);
+        if (entry == null || !key.equals(entry.getKey()) || entry.getStats() == null) {
+            return null;
+        }
+        return entry;
+    }
+
+    private String filePath(String key) {
+        String fileName = key.replace("/", "__").replace(":", "--").replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX;
+        return Paths.get(directory, fileName).toString();
+    }
+
+    private static String key(String owner, String repo, String username) {
+        return (owner + "/" + repo + ":" + username).toLowerCase();
+    }
+}
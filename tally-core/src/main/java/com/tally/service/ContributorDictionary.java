@@ -0,0 +1,98 @@
+package com.tally.service;
+
+import java.util.Arrays;
+
+/**
+ * 작성자 식별자(login 또는 이름) -> int id 사전
+ * 오픈 어드레싱 해시 테이블로 박싱 없이 id를 발급하고, id는 0부터 순서대로 증가
+ */
+public final class ContributorDictionary {
+    private static final int EMPTY = -1;
+
+    private String[] names = new String[16];
+    private int[] slots = newSlots(32);
+    private int size;
+
+    /**
+     * id 조회, 없으면 새로 발급
+     */
+    public int intern(String name) {
+        int mask = slots.length - 1;
+        int slot = mix(name.hashCode()) & mask;
+        while (true) {
+            int id = slots[slot];
+            if (id == EMPTY) {
+                return insert(name, slot);
+            }
+            if (names[id].equals(name)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * id 조회, 없으면 -1
+     */
+    public int find(String name) {
+        int mask = slots.length - 1;
+        int slot = mix(name.hashCode()) & mask;
+        while (true) {
+            int id = slots[slot];
+            if (id == EMPTY) {
+                return -1;
+            }
+            if (names[id].equals(name)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int insert(String name, int slot) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        int id = size++;
+        names[id] = name;
+        slots[slot] = id;
+
+        // 적재율 50% 초과 시 확장
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return id;
+    }
+
+    private void rehash(int capacity) {
+        int[] newSlots = newSlots(capacity);
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(names[id].hashCode()) & mask;
+            while (newSlots[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            newSlots[slot] = id;
+        }
+        slots = newSlots;
+    }
+
+    private static int[] newSlots(int capacity) {
+        int[] newSlots = new int[capacity];
+        Arrays.fill(newSlots, EMPTY);
+        return newSlots;
+    }
+
+    private static int mix(int hash) {
+        // String.hashCode 하위 비트 편중 완화
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,301 @@
+package com.tally.service;
+
+import java.util.Arrays;
+
+/**
+ * 팀원별 기여 집계용 컬럼형 테이블
+ *
+ * 작성자는 ContributorDictionary로 int id에 매핑하고, 커밋 수/첫·마지막 커밋 시각은 id로 인덱싱한 기본형 배열에,
+ * 레포지토리별 커밋 수는 (레포지토리, 팀원, 커밋 수) 좌표 배열에 보관한다.
+ * 순위/백분위/상위 N명은 정렬된 기본형 배열로 계산하므로 박싱이 없다.
+ * 스레드 안전하지 않음 (호출하는 쪽에서 동기화)
+ */
+public final class ContributorTable {
+    public static final long NO_FIRST_COMMIT = Long.MAX_VALUE;
+    public static final long NO_LAST_COMMIT = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ContributorDictionary dictionary = new ContributorDictionary();
+
+    // 팀원 컬럼 (id로 인덱싱)
+    private int[] commits = new int[INITIAL_CAPACITY];
+    private long[] firstCommitAt = new long[INITIAL_CAPACITY];  // epoch seconds
+    private long[] lastCommitAt = new long[INITIAL_CAPACITY];   // epoch seconds
+    private String[] avatars = new String[INITIAL_CAPACITY];
+    private long totalCommits;
+
+    // 레포지토리별 내역 (좌표 형식)
+    private String[] repositories = new String[INITIAL_CAPACITY];
+    private int repositoryCount;
+    private int[] entryRepository = new int[INITIAL_CAPACITY];
+    private int[] entryMember = new int[INITIAL_CAPACITY];
+    private int[] entryCommits = new int[INITIAL_CAPACITY];
+    private int entryCount;
+
+    // 커밋 수 오름차순 정렬 결과 (변경 시 무효화)
+    private int[] sortedCommits;
+
+    /**
+     * 레포지토리 등록 후 인덱스 반환
+     */
+    public int addRepository(String fullName) {
+        if (repositoryCount == repositories.length) {
+            repositories = Arrays.copyOf(repositories, repositoryCount * 2);
+        }
+        repositories[repositoryCount] = fullName;
+        return repositoryCount++;
+    }
+
+    /**
+     * 커밋 한 건 추가 (timestamp는 epoch seconds, 모르면 NO_FIRST_COMMIT)
+     */
+    public int addCommit(String login, String avatarUrl, long timestamp) {
+        int id = memberId(login, avatarUrl);
+        commits[id]++;
+        totalCommits++;
+        if (timestamp != NO_FIRST_COMMIT) {
+            firstCommitAt[id] = Math.min(firstCommitAt[id], timestamp);
+            lastCommitAt[id] = Math.max(lastCommitAt[id], timestamp);
+        }
+        sortedCommits = null;
+        return id;
+    }
+
+    /**
+     * 레포지토리 하나에서 집계된 팀원 기여 합치기
+     */
+    public int add(int repository, String login, String avatarUrl, int count, long first, long last) {
+        int id = memberId(login, avatarUrl);
+        commits[id] += count;
+        totalCommits += count;
+        firstCommitAt[id] = Math.min(firstCommitAt[id], first);
+        lastCommitAt[id] = Math.max(lastCommitAt[id], last);
+        addEntry(repository, id, count);
+        sortedCommits = null;
+        return id;
+    }
+
+    public int size() {
+        return dictionary.size();
+    }
+
+    public long totalCommits() {
+        return totalCommits;
+    }
+
+    public String login(int id) {
+        return dictionary.name(id);
+    }
+
+    public String avatarUrl(int id) {
+        return avatars[id];
+    }
+
+    public int commits(int id) {
+        return commits[id];
+    }
+
+    public long firstCommitAt(int id) {
+        return firstCommitAt[id];
+    }
+
+    public long lastCommitAt(int id) {
+        return lastCommitAt[id];
+    }
+
+    /**
+     * login으로 id 조회 (없으면 -1)
+     */
+    public int find(String login) {
+        return dictionary.find(login);
+    }
+
+    /**
+     * 커밋 수 내림차순 상위 limit명의 id (limit <= 0이면 전체, 동률은 먼저 등장한 팀원 우선)
+     */
+    public int[] topMembers(int limit) {
+        int size = size();
+        int count = limit > 0 ? Math.min(limit, size) : size;
+
+        // (Integer.MAX_VALUE - commits) << 32 | id 를 오름차순 정렬하면 커밋 수 내림차순 + id 오름차순
+        long[] keys = new long[size];
+        for (int id = 0; id < size; id++) {
+            keys[id] = ((long) (Integer.MAX_VALUE - commits[id]) << 32) | id;
+        }
+        Arrays.sort(keys);
+
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = (int) keys[i];
+        }
+        return ids;
+    }
+
+    /**
+     * 순위 (더 많이 커밋한 팀원 수 + 1, 동률은 같은 순위)
+     */
+    public int rank(int id) {
+        int[] sorted = sortedCommits();
+        return sorted.length - upperBound(sorted, commits[id]) + 1;
+    }
+
+    /**
+     * 백분위 (커밋 수가 더 적은 팀원 비율, 0 ~ 100)
+     */
+    public double percentile(int id) {
+        int[] sorted = sortedCommits();
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return lowerBound(sorted, commits[id]) * 100.0 / sorted.length;
+    }
+
+    /**
+     * p 백분위의 커밋 수 (nearest-rank, p는 0 ~ 100)
+     */
+    public int commitsAtPercentile(double p) {
+        int[] sorted = sortedCommits();
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * 팀원별 기여한 레포지토리 수 (id로 인덱싱)
+     */
+    public int[] repositoryCounts() {
+        int[] counts = new int[size()];
+        for (int i = 0; i < entryCount; i++) {
+            if (entryCommits[i] > 0) {
+                counts[entryMember[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 팀원 한 명의 레포지토리별 커밋 수 (레포지토리 인덱스로 인덱싱)
+     */
+    public int[] repositoryBreakdown(int id) {
+        int[] breakdown = new int[repositoryCount];
+        for (int i = 0; i < entryCount; i++) {
+            if (entryMember[i] == id) {
+                breakdown[entryRepository[i]] += entryCommits[i];
+            }
+        }
+        return breakdown;
+    }
+
+    public String repository(int index) {
+        return repositories[index];
+    }
+
+    public int repositoryCount() {
+        return repositoryCount;
+    }
+
+    // 스냅샷 저장용 컬럼 복사본 (길이 = size())
+
+    public String[] logins() {
+        String[] logins = new String[size()];
+        for (int id = 0; id < logins.length; id++) {
+            logins[id] = dictionary.name(id);
+        }
+        return logins;
+    }
+
+    public String[] avatarColumn() {
+        return Arrays.copyOf(avatars, size());
+    }
+
+    public int[] commitColumn() {
+        return Arrays.copyOf(commits, size());
+    }
+
+    public long[] firstCommitColumn() {
+        return Arrays.copyOf(firstCommitAt, size());
+    }
+
+    public long[] lastCommitColumn() {
+        return Arrays.copyOf(lastCommitAt, size());
+    }
+
+    private int memberId(String login, String avatarUrl) {
+        int before = dictionary.size();
+        int id = dictionary.intern(login);
+        if (id == before) {
+            ensureMemberCapacity(id + 1);
+            firstCommitAt[id] = NO_FIRST_COMMIT;
+            lastCommitAt[id] = NO_LAST_COMMIT;
+        }
+        if (avatars[id] == null && avatarUrl != null) {
+            avatars[id] = avatarUrl;
+        }
+        return id;
+    }
+
+    private void ensureMemberCapacity(int capacity) {
+        if (capacity <= commits.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, commits.length * 2);
+        commits = Arrays.copyOf(commits, newCapacity);
+        firstCommitAt = Arrays.copyOf(firstCommitAt, newCapacity);
+        lastCommitAt = Arrays.copyOf(lastCommitAt, newCapacity);
+        avatars = Arrays.copyOf(avatars, newCapacity);
+    }
+
+    private void addEntry(int repository, int member, int count) {
+        if (entryCount == entryMember.length) {
+            int newCapacity = entryCount * 2;
+            entryRepository = Arrays.copyOf(entryRepository, newCapacity);
+            entryMember = Arrays.copyOf(entryMember, newCapacity);
+            entryCommits = Arrays.copyOf(entryCommits, newCapacity);
+        }
+        entryRepository[entryCount] = repository;
+        entryMember[entryCount] = member;
+        entryCommits[entryCount] = count;
+        entryCount++;
+    }
+
+    private int[] sortedCommits() {
+        if (sortedCommits == null) {
+            sortedCommits = Arrays.copyOf(commits, size());
+            Arrays.sort(sortedCommits);
+        }
+        return sortedCommits;
+    }
+
+    // value 이상인 첫 위치
+    private static int lowerBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // value 초과인 첫 위치
+    private static int upperBound(int[] sorted, int value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,129 @@
+package com.tally.service;
+
+/**
+ * 파일 경로 -> 역할 분류 (REST 분석과 로컬 git 미러 분석 공용)
+ */
+public final class FileRoleClassifier {
+
+    private FileRoleClassifier() {
+    }
+
+    /**
+     * 파일 경로를 기반으로 역할 분류
+     * 백엔드/프론트엔드 상호 배타적 체크 강화
+     */
+    public static String categorize(String filename) {
+        String lowerFilename = filename.toLowerCase();
+
+        // 1순위: 설정 파일 (가장 먼저 체크)
+        if (lowerFilename.endsWith("package.json") ||
+                lowerFilename.endsWith("package-lock.json") ||
+                lowerFilename.endsWith("yarn.lock") ||
+                lowerFilename.endsWith("pom.xml") ||
+                lowerFilename.endsWith("build.gradle") ||
+                lowerFilename.endsWith("settings.gradle") ||
+                lowerFilename.endsWith("gradle.properties") ||
+                lowerFilename.endsWith(".properties") ||
+                lowerFilename.endsWith(".env") ||
+                lowerFilename.endsWith("vite.config.ts") ||
+                lowerFilename.endsWith("vite.config.js") ||
+                lowerFilename.endsWith("tsconfig.json") ||
+                lowerFilename.endsWith("webpack.config.js")) {
+            return "configuration";
+        }
+
+        // 2순위: 문서
+        if (lowerFilename.endsWith(".md") ||
+                lowerFilename.contains("readme") ||
+                lowerFilename.contains("/docs/") ||
+                lowerFilename.contains("/documentation/")) {
+            return "documentation";
+        }
+
+        // 3순위: 인프라/DevOps
+        if (lowerFilename.contains("dockerfile") ||
+                lowerFilename.contains("docker-compose") ||
+                lowerFilename.contains(".github/workflows/") ||
+                lowerFilename.endsWith(".yml") ||
+                lowerFilename.endsWith(".yaml") ||
+                lowerFilename.contains("/terraform/") ||
+                lowerFilename.contains("/kubernetes/") ||
+                lowerFilename.contains("/k8s/")) {
+            return "infrastructure";
+        }
+
+        // 4순위: 테스트
+        if (lowerFilename.contains("__tests__/") ||
+                lowerFilename.contains("/test/") ||
+                lowerFilename.contains("/tests/") ||
+                lowerFilename.endsWith(".test.js") ||
+                lowerFilename.endsWith(".test.ts") ||
+                lowerFilename.endsWith(".test.jsx") ||
+                lowerFilename.endsWith(".test.tsx") ||
+                lowerFilename.endsWith(".spec.js") ||
+                lowerFilename.endsWith(".spec.ts") ||
+                lowerFilename.endsWith(".spec.tsx")) {
+            return "test";
+        }
+
+        // 5순위: 백엔드 체크 (프론트엔드보다 먼저)
+        // Java/Spring Boot 백엔드 명확한 경로
+        if (lowerFilename.contains("/src/main/java/") ||
+                lowerFilename.contains("/src/main/kotlin/") ||
+                lowerFilename.contains("/src/main/resources/")) {
+            return "backend";
+        }
+
+        // Java 파일이 명확한 백엔드 구조에 있는 경우
+        if (lowerFilename.endsWith(".java") || lowerFilename.endsWith(".kt")) {
+            return "backend";
+        }
+
+        // Python/Go/Ruby 백엔드
+        if ((lowerFilename.endsWith(".py") ||
+                lowerFilename.endsWith(".go") ||
+                lowerFilename.endsWith(".rb")) &&
+                (lowerFilename.contains("/backend/") ||
+                        lowerFilename.contains("/server/") ||
+                        lowerFilename.contains("/api/"))) {
+            return "backend";
+        }
+
+        // 6순위: 프론트엔드 체크 (백엔드가 아닌 경우만)
+        // 명확한 프론트엔드 프로젝트 디렉토리 구조
+        if (lowerFilename.contains("/src/") &&
+                !lowerFilename.contains("/src/main/") && // Spring Boot 제외
+                !lowerFilename.contains("/src/test/") && // Java test 제외
+                (lowerFilename.endsWith(".ts") ||
+                        lowerFilename.endsWith(".tsx") ||
+                        lowerFilename.endsWith(".jsx") ||
+                        lowerFilename.endsWith(".js") ||
+                        lowerFilename.endsWith(".vue"))) {
+            return "frontend";
+        }
+
+        // React/Vue/Frontend 특화 디렉토리
+        if (lowerFilename.contains("/components/") ||
+                lowerFilename.contains("/pages/") ||
+                lowerFilename.contains("/views/") ||
+                lowerFilename.contains("/hooks/") ||
+                lowerFilename.contains("/styles/") ||
+                lowerFilename.contains("/assets/") ||
+                lowerFilename.contains("/public/") ||
+                lowerFilename.endsWith(".css") ||
+                lowerFilename.endsWith(".scss") ||
+                lowerFilename.endsWith(".sass") ||
+                lowerFilename.endsWith(".less")) {
+            return "frontend";
+        }
+
+        // HTML은 프론트엔드 프로젝트에만 해당 (Spring templates 제외)
+        if (lowerFilename.endsWith(".html") &&
+                !lowerFilename.contains("/templates/") &&
+                !lowerFilename.contains("/static/")) {
+            return "frontend";
+        }
+
+        return "other";
+    }
+}
@@ -0,0 +1,17 @@
+package com.tally.service;
+
+/**
+ * GitHub API가 2xx가 아닌 상태 코드로 응답한 경우
+ */
+public class GitHubApiException extends RuntimeException {
+    private final int statusCode;
+
+    public GitHubApiException(int statusCode, String url) {
+        super("GitHub API responded " + statusCode + " for " + url);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,216 @@
+package com.tally.service;
+
+import com.tally.util.GitHubJson;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GitHub 호출용 HTTP 클라이언트 (JDK HttpClient 기반, Spring 없이 API 서버와 Lambda에서 공용)
+ *
+ * 응답 본문은 스트림으로 넘겨 공용 매퍼나 스트리밍 파서가 바로 읽는다.
+ * 2xx가 아닌 응답은 GitHubApiException, 전송 실패는 UncheckedIOException으로 던진다.
+ *
+ * JDK HttpClient의 요청 타임아웃은 응답 헤더 수신까지만 적용되고 소켓 읽기 타임아웃이 없다.
+ * 헤더 뒤에 본문이 멈추면 읽기가 끝없이 막히므로, 본문 스트림에 유휴 타임아웃을 걸어
+ * readTimeout 동안 데이터가 한 바이트도 오지 않으면 스트림을 닫고 HttpTimeoutException을 던진다.
+ * (RestTemplate 시절의 소켓 readTimeout과 같은 의미)
+ */
+final class GitHubHttpClient {
+
+    // 본문 유휴 타임아웃 감시 (모든 클라이언트가 공유하는 데몬 스레드 하나)
+    private static final ScheduledExecutorService BODY_WATCHDOG = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "github-body-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 응답 본문 읽기 (2xx일 때만 호출)
+     */
+    @FunctionalInterface
+    interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private final HttpClient client;
+    private final Duration requestTimeout;
+    private final Duration readTimeout;
+
+    /**
+     * @param requestTimeout 요청 전송부터 응답 헤더 수신까지의 제한 시간
+     * @param readTimeout    응답 본문을 읽는 동안 데이터 없이 기다리는 최대 시간
+     */
+    GitHubHttpClient(Duration connectTimeout, Duration requestTimeout, Duration readTimeout) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * GET 응답을 type으로 파싱 (token이 null이면 인증 헤더 없이 요청)
+     */
+    <T> T get(String url, String token, Class<T> type) {
+        return get(url, token, body -> GitHubJson.MAPPER.readValue(body, type));
+    }
+
+    <T> T get(String url, String token, BodyReader<T> reader) {
+        HttpRequest.Builder request = newRequest(url).GET();
+        if (token != null) {
+            request.header("Authorization", "token " + token);
+        }
+        return send(request.build(), reader);
+    }
+
+    /**
+     * 본문을 JSON으로 직렬화해 POST하고 응답을 type으로 파싱
+     */
+    <T> T postJson(String url, Object body, Class<T> type) {
+        byte[] json;
+        try {
+            json = GitHubJson.MAPPER.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        HttpRequest request = newRequest(url)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+        return send(request, in -> GitHubJson.MAPPER.readValue(in, type));
+    }
+
+    private HttpRequest.Builder newRequest(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json");
+    }
+
+    private <T> T send(HttpRequest request, BodyReader<T> reader) {
+        try {
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = new IdleTimeoutInputStream(response.body(), readTimeout, request.uri())) {
+                if (response.statusCode() < 200 || response.statusCode() >= 300) {
+                    throw new GitHubApiException(response.statusCode(), request.uri().getPath());
+                }
+                return reader.read(body);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while calling " + request.uri()));
+        }
+    }
+
+    /**
+     * 본문 유휴 타임아웃 스트림
+     * 마지막으로 데이터를 받은 뒤 timeout이 지나면 감시 스레드가 원본 스트림을 닫아 막힌 read를 깨운다.
+     * 감시 작업은 매번 남은 시간만큼 다시 예약되므로 read마다 작업을 만들지 않는다.
+     */
+    static final class IdleTimeoutInputStream extends FilterInputStream {
+        private final long timeoutNanos;
+        private final URI uri;
+        private volatile long lastActivity = System.nanoTime();
+        private volatile boolean timedOut;
+        private volatile boolean closed;
+        private volatile ScheduledFuture<?> watchdog;
+
+        IdleTimeoutInputStream(InputStream in, Duration timeout, URI uri) {
+            super(in);
+            this.timeoutNanos = timeout.toNanos();
+            this.uri = uri;
+            schedule(timeoutNanos);
+        }
+
+        private void schedule(long delayNanos) {
+            watchdog = BODY_WATCHDOG.schedule(this::check, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void check() {
+            if (closed) {
+                return;
+            }
+            long idle = System.nanoTime() - lastActivity;
+            if (idle < timeoutNanos) {
+                schedule(timeoutNanos - idle);
+                return;
+            }
+            timedOut = true;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 이미 닫히는 중
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int b = in.read();
+                lastActivity = System.nanoTime();
+                return b;
+            } catch (IOException e) {
+                throw translate(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                int n = in.read(b, off, len);
+                lastActivity = System.nanoTime();
+                return n;
+            } catch (IOException e) {
+                throw translate(e);
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            try {
+                long skipped = in.skip(n);
+                lastActivity = System.nanoTime();
+                return skipped;
+            } catch (IOException e) {
+                throw translate(e);
+            }
+        }
+
+        private IOException translate(IOException e) {
+            if (!timedOut) {
+                return e;
+            }
+            HttpTimeoutException timeout = new HttpTimeoutException(
+                    "No response body data from " + uri + " for " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+            timeout.initCause(e);
+            return timeout;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            ScheduledFuture<?> current = watchdog;
+            if (current != null) {
+                current.cancel(false);
+            }
+            in.close();
+        }
+    }
+}
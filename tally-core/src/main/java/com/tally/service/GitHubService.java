@@ -0,0 +1,573 @@
+package com.tally.service;
+
+import com.tally.domain.*;
+import com.tally.dto.CommitFileStats;
+import com.tally.dto.CommitSummary;
+import com.tally.dto.IssueSummary;
+import com.tally.dto.PullRequestSummary;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class GitHubService {
+    // 응답이 멈춘 업스트림 하나가 요청 전체의 마감 시간을 잡아먹지 않도록 타임아웃 설정
+    // 요청 타임아웃은 응답 헤더 수신까지만 적용되므로, 본문은 읽기 유휴 타임아웃으로 따로 막는다
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String RATE_LIMIT_URL = "https://api.github.com/rate_limit";
+
+    // 커밋 목록 페이지 크기와 분석용 커밋 목록에서 브랜치당 조회하는 최대 페이지 수
+    private static final int COMMITS_PER_PAGE = 100;
+    private static final int MAX_COMMIT_PAGES = 5;
+
+    // GitHub 응답은 공용 매퍼로 파싱 (대상 타입에 없는 필드는 건너뜀)
+    private final GitHubHttpClient http = new GitHubHttpClient(CONNECT_TIMEOUT, REQUEST_TIMEOUT, READ_TIMEOUT);
+
+    /**
+     * 스트리밍 커밋 조회 콜백 (커밋 객체 없이 집계에 필요한 필드만 전달)
+     * login/avatarUrl은 GitHub 계정과 연결되지 않은 커밋이면 null
+     */
+    @FunctionalInterface
+    public interface CommitConsumer {
+        void accept(String sha, String login, String avatarUrl, String authorName, String date);
+    }
+
+    /**
+     * 사용자의 개인 레포지토리 목록 조회 (조직 레포 포함)
+     */
+    public List<GitHubRepository> getUserRepositories(String token) {
+        GitHubRepository[] repositories = http.get(
+                "https://api.github.com/user/repos?affiliation=owner,collaborator,organization_member&per_page=100&sort=updated",
+                token,
+                GitHubRepository[].class
+        );
+
+        if (repositories != null) {
+            return Arrays.asList(repositories);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 사용자가 속한 조직 목록 조회
+     */
+    public List<Organization> getUserOrganizations(String token) {
+        try {
+            Organization[] organizations = http.get(
+                    "https://api.github.com/user/orgs?per_page=100",
+                    token,
+                    Organization[].class
+            );
+
+            if (organizations != null) {
+                log.info("Found {} organizations from API", organizations.length);
+                return Arrays.asList(organizations);
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch user organizations", e);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 레포지토리 owner 정보에서 조직 목록 추출
+     * (API /user/orgs가 제대로 작동하지 않을 때 대안)
+     */
+    public List<Organization> getOrganizationsFromRepositories(String token) {
+        List<GitHubRepository> repos = getUserRepositories(token);
+        Map<String, Organization> orgMap = new HashMap<>();
+
+        for (GitHubRepository repo : repos) {
+            // 조직 소유 레포
+            if (repo.getOwner() != null && "Organization".equals(repo.getOwner().getType())) {
+                String orgLogin = repo.getOwner().getLogin();
+
+                if (!orgMap.containsKey(orgLogin)) {
+                    Organization org = new Organization();
+                    org.setId(repo.getOwner().getId());
+                    org.setLogin(orgLogin);
+                    org.setAvatarUrl(repo.getOwner().getAvatarUrl());
+                    org.setDescription("조직 레포지토리");
+                    orgMap.put(orgLogin, org);
+                }
+            }
+
+            // Fork의 원본이 조직인 경우
+            if (repo.getFork() != null && repo.getFork() &&
+                    repo.getParent() != null &&
+                    repo.getParent().getOwner() != null &&
+                    "Organization".equals(repo.getParent().getOwner().getType())) {
+
+                String orgLogin = repo.getParent().getOwner().getLogin();
+
+                if (!orgMap.containsKey(orgLogin)) {
+                    Organization org = new Organization();
+                    org.setId(repo.getParent().getOwner().getId());
+                    org.setLogin(orgLogin);
+                    org.setAvatarUrl(repo.getParent().getOwner().getAvatarUrl());
+                    org.setDescription("Fork된 레포지토리 원본 조직");
+                    orgMap.put(orgLogin, org);
+                }
+            }
+        }
+
+        List<Organization> organizations = new ArrayList<>(orgMap.values());
+        log.info("Extracted {} organizations from repositories", organizations.size());
+        return organizations;
+    }
+
+    /**
+     * 특정 조직의 레포지토리 목록 조회
+     */
+    public List<GitHubRepository> getOrganizationRepositories(String token, String org) {
+        try {
+            GitHubRepository[] repositories = http.get(
+                    String.format("https://api.github.com/orgs/%s/repos?per_page=100&sort=updated", org),
+                    token,
+                    GitHubRepository[].class
+            );
+
+            if (repositories != null) {
+                log.info("Found {} repositories in organization {}", repositories.length, org);
+                return Arrays.asList(repositories);
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch repositories for organization: {}", org, e);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 사용자의 모든 레포지토리 조회 (개인 + 조직의 모든 레포)
+     */
+    public List<GitHubRepository> getAllRepositories(String token) {
+        List<GitHubRepository> allRepos = new ArrayList<>();
+
+        // 1. 개인 레포 + 직접 기여한 레포
+        log.info("Fetching user repositories...");
+        List<GitHubRepository> userRepos = getUserRepositories(token);
+        allRepos.addAll(userRepos);
+        log.info("Found {} user repositories", userRepos.size());
+
+        // 2. 속한 조직의 모든 레포
+        log.info("Fetching organizations...");
+        List<Organization> orgs = getUserOrganizations(token);
+
+        for (Organization org : orgs) {
+            log.info("Fetching repositories for organization: {}", org.getLogin());
+            List<GitHubRepository> orgRepos = getOrganizationRepositories(token, org.getLogin());
+            allRepos.addAll(orgRepos);
+        }
+
+        // 3. 중복 제거 (같은 레포가 여러 번 나올 수 있음)
+        List<GitHubRepository> uniqueRepos = allRepos.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        log.info("Total repositories after deduplication: {}", uniqueRepos.size());
+        return uniqueRepos;
+    }
+
+    /**
+     * 특정 조직에서 사용자가 기여한 레포지토리만 필터링
+     */
+    public List<GitHubRepository> getUserRepositoriesInOrganization(String token, String orgName, String username) {
+        List<GitHubRepository> orgRepos = getOrganizationRepositories(token, orgName);
+        List<GitHubRepository> contributedRepos = new ArrayList<>();
+
+        for (GitHubRepository repo : orgRepos) {
+            // 각 레포의 커밋을 확인하여 사용자가 기여했는지 체크 (login, 없으면 작성자 이름으로 비교)
+            boolean[] hasContribution = {false};
+            streamRepositoryCommits(token, orgName, repo.getName(), Deadline.none(), null,
+                    (sha, login, avatarUrl, authorName, date) -> {
+                        String author = login != null ? login : authorName;
+                        if (author != null && author.equalsIgnoreCase(username)) {
+                            hasContribution[0] = true;
+                        }
+                    });
+
+            if (hasContribution[0]) {
+                contributedRepos.add(repo);
+            }
+        }
+
+        log.info("User {} contributed to {}/{} repositories in organization {}",
+                username, contributedRepos.size(), orgRepos.size(), orgName);
+        return contributedRepos;
+    }
+
+    /**
+     * 레포지토리의 모든 브랜치 목록 조회
+     */
+    /**
+     * 주요 브랜치 선택 (main, master, develop 우선)
+     */
+    private List<String> selectPrimaryBranches(List<String> branches, int limit) {
+        if (branches.size() <= limit) {
+            return branches;
+        }
+
+        List<String> primaryBranches = new ArrayList<>();
+        List<String> primaryNames = Arrays.asList("main", "master", "develop", "dev", "production", "prod");
+
+        // 주요 브랜치 먼저 추가
+        for (String name : primaryNames) {
+            if (branches.contains(name)) {
+                primaryBranches.add(name);
+                if (primaryBranches.size() >= limit) {
+                    return primaryBranches;
+                }
+            }
+        }
+
+        // 주요 브랜치가 limit보다 적으면 나머지 브랜치 추가
+        for (String branch : branches) {
+            if (!primaryBranches.contains(branch)) {
+                primaryBranches.add(branch);
+                if (primaryBranches.size() >= limit) {
+                    break;
+                }
+            }
+        }
+
+        return primaryBranches;
+    }
+
+    public List<String> getRepositoryBranches(String token, String owner, String repo) {
+        String url = String.format("https://api.github.com/repos/%s/%s/branches?per_page=100", owner, repo);
+
+        try {
+            Map[] branches = http.get(url, token, Map[].class);
+
+            if (branches != null) {
+                return Arrays.stream(branches)
+                        .map(branch -> (String) branch.get("name"))
+                        .collect(Collectors.toList());
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch branches for {}/{}: {}", owner, repo, e.getMessage());
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 브랜치별 HEAD 커밋 SHA (브랜치 이름순, 조회 실패 시 null)
+     * 분석 결과 캐시 키로 사용: 어떤 브랜치에도 push가 없으면 값이 같음
+     */
+    public Map<String, String> getBranchHeads(String token, String owner, String repo) {
+        String url = String.format("https://api.github.com/repos/%s/%s/branches?per_page=100", owner, repo);
+
+        try {
+            Map[] branches = http.get(url, token, Map[].class);
+
+            if (branches != null) {
+                Map<String, String> heads = new TreeMap<>();
+                for (Map branch : branches) {
+                    Object commit = branch.get("commit");
+                    if (commit instanceof Map) {
+                        heads.put((String) branch.get("name"), (String) ((Map) commit).get("sha"));
+                    }
+                }
+                return heads;
+            }
+        } catch (Exception e) {
+            log.error("Failed to fetch branch heads for {}/{}: {}", owner, repo, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * 레포지토리의 커밋 목록 조회 (모든 브랜치에서)
+     */
+    public List<Commit> getRepositoryCommits(String token, String owner, String repo) {
+        return getRepositoryCommits(token, owner, repo, Deadline.none(), null);
+    }
+
+    /**
+     * 레포지토리의 커밋 목록 조회 (마감 시간 내에서만 브랜치 조회, 조회한 브랜치는 coverage에 기록)
+     */
+    public List<Commit> getRepositoryCommits(String token, String owner, String repo,
+                                             Deadline deadline, AnalysisCoverage coverage) {
+        return getBranchCommits(token, owner, repo, deadline, coverage, 1, Commit[].class, Commit::getSha);
+    }
+
+    /**
+     * 분석용 커밋 요약 목록 조회 (sha/작성자/날짜/메시지만 파싱)
+     * 브랜치마다 최대 MAX_COMMIT_PAGES 페이지까지 마감 시간 안에서 넘겨 읽고,
+     * 그 전에 멈춘 브랜치는 coverage의 truncatedBranches에 기록 (오래된 커밋은 분석 모집단에서 빠짐)
+     */
+    public List<CommitSummary> getRepositoryCommitSummaries(String token, String owner, String repo,
+                                                            Deadline deadline, AnalysisCoverage coverage) {
+        return getBranchCommits(token, owner, repo, deadline, coverage, MAX_COMMIT_PAGES,
+                CommitSummary[].class, CommitSummary::getSha);
+    }
+
+    /**
+     * 주요 브랜치의 커밋을 type으로 파싱해 SHA 기준 중복 제거 (브랜치당 최대 maxPages 페이지)
+     */
+    private <T> List<T> getBranchCommits(String token, String owner, String repo,
+                                         Deadline deadline, AnalysisCoverage coverage, int maxPages,
+                                         Class<T[]> type, Function<T, String> shaOf) {
+        // 1. 모든 브랜치 가져오기
+        List<String> branches = getRepositoryBranches(token, owner, repo);
+        log.info("Found {} branches in {}/{}", branches.size(), owner, repo);
+
+        // 2. 각 브랜치에서 커밋 가져오기 (중복 제거용 Set)
+        Set<String> seenShas = new HashSet<>();
+        List<T> allCommits = new ArrayList<>();
+
+        // 브랜치가 너무 많으면 주요 브랜치만 (성능 고려 - API Gateway 타임아웃 29초)
+        List<String> targetBranches = selectPrimaryBranches(branches, 2);
+
+        for (String branch : targetBranches) {
+            if (deadline.isExpired()) {
+                log.warn("Deadline reached, skipping remaining branches of {}/{} from {}", owner, repo, branch);
+                if (coverage != null) {
+                    coverage.markPartial();
+                }
+                break;
+            }
+
+            boolean complete = false;
+            try {
+                for (int page = 1; page <= maxPages; page++) {
+                    // 다음 페이지는 마감 시간 안에서만 (이미 읽은 페이지는 그대로 사용, 페이지 한도와 달리 partial)
+                    if (page > 1 && deadline.isExpired()) {
+                        if (coverage != null) {
+                            coverage.markPartial();
+                        }
+                        break;
+                    }
+
+                    String url = String.format("https://api.github.com/repos/%s/%s/commits?sha=%s&per_page=%d&page=%d",
+                            owner, repo, branch, COMMITS_PER_PAGE, page);
+                    T[] commits = http.get(url, token, type);
+
+                    if (commits != null) {
+                        for (T commit : commits) {
+                            // SHA로 중복 제거
+                            String sha = shaOf.apply(commit);
+                            if (sha != null && seenShas.add(sha)) {
+                                allCommits.add(commit);
+                            }
+                        }
+                    }
+
+                    if (page == 1 && coverage != null) {
+                        coverage.addBranch(owner + "/" + repo, branch);
+                    }
+                    if (commits == null || commits.length < COMMITS_PER_PAGE) {
+                        complete = true;
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Failed to fetch commits for branch {} in {}/{}: {}", branch, owner, repo, e.getMessage());
+            }
+
+            if (!complete && coverage != null) {
+                coverage.addTruncatedBranch(owner + "/" + repo, branch);
+            }
+        }
+
+        if (coverage != null) {
+            coverage.addCommits(allCommits.size());
+        }
+
+        log.info("Total unique commits from {} branches: {}", targetBranches.size(), allCommits.size());
+        return allCommits;
+    }
+
+    /**
+     * 레포지토리 커밋 스트리밍 조회
+     * 페이지를 Jackson 스트리밍 파서로 읽으며 중복 제거된 커밋마다 consumer를 호출하므로
+     * 메모리에는 응답 버퍼와 SHA 집합만 남음 (조회한 커밋 수 반환)
+     * 브랜치마다 최근 커밋 한 페이지만 읽으며, 마감 시간은 각 페이지(브랜치) 요청을 보내기 전에 확인한다.
+     */
+    public int streamRepositoryCommits(String token, String owner, String repo,
+                                       Deadline deadline, AnalysisCoverage coverage, CommitConsumer consumer) {
+        List<String> branches = getRepositoryBranches(token, owner, repo);
+        List<String> targetBranches = selectPrimaryBranches(branches, 2);
+
+        Set<String> seenShas = new HashSet<>();
+        CommitConsumer deduplicating = (sha, login, avatarUrl, authorName, date) -> {
+            // SHA로 중복 제거
+            if (sha != null && seenShas.add(sha)) {
+                consumer.accept(sha, login, avatarUrl, authorName, date);
+            }
+        };
+
+        for (String branch : targetBranches) {
+            if (deadline.isExpired()) {
+                log.warn("Deadline reached, skipping remaining branches of {}/{} from {}", owner, repo, branch);
+                if (coverage != null) {
+                    coverage.markPartial();
+                }
+                break;
+            }
+
+            String url = String.format("https://api.github.com/repos/%s/%s/commits?sha=%s&per_page=100",
+                    owner, repo, branch);
+
+            try {
+                http.get(url, token, body -> CommitPageParser.parse(body, deduplicating));
+
+                if (coverage != null) {
+                    coverage.addBranch(owner + "/" + repo, branch);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to fetch commits for branch {} in {}/{}: {}", branch, owner, repo, e.getMessage());
+            }
+        }
+
+        if (coverage != null) {
+            coverage.addCommits(seenShas.size());
+        }
+
+        log.info("Streamed {} unique commits from {} branches of {}/{}", seenShas.size(), targetBranches.size(), owner, repo);
+        return seenShas.size();
+    }
+
+    /**
+     * 커밋 상세 정보 조회 (파일 목록 포함)
+     */
+    public Commit getCommitDetail(String token, String owner, String repo, String sha) {
+        String url = String.format("https://api.github.com/repos/%s/%s/commits/%s", owner, repo, sha);
+
+        try {
+            return http.get(url, token, Commit.class);
+        } catch (Exception e) {
+            log.error("Failed to fetch commit detail for sha: {}", sha, e);
+            return null;
+        }
+    }
+
+    /**
+     * 커밋의 파일별 변경 통계 조회 (통계 전용 모드)
+     * 응답을 스트리밍으로 읽으며 patch 본문은 버퍼링하지 않고 건너뜀 (실패 시 null)
+     */
+    public CommitFileStats getCommitFileStats(String token, String owner, String repo, String sha) {
+        String url = String.format("https://api.github.com/repos/%s/%s/commits/%s", owner, repo, sha);
+
+        try {
+            return http.get(url, token, CommitDetailParser::parse);
+        } catch (Exception e) {
+            log.error("Failed to fetch commit file stats for sha: {}", sha, e);
+            return null;
+        }
+    }
+
+    /**
+     * 레포지토리의 Pull Request 목록 조회
+     */
+    public List<PullRequest> getRepositoryPullRequests(String token, String owner, String repo) {
+        return getPullRequests(token, owner, repo, PullRequest[].class);
+    }
+
+    /**
+     * 레포지토리의 Pull Request 요약 목록 조회 (집계용, 본문 등은 파싱하지 않음)
+     */
+    public List<PullRequestSummary> getRepositoryPullRequestSummaries(String token, String owner, String repo) {
+        return getPullRequests(token, owner, repo, PullRequestSummary[].class);
+    }
+
+    /**
+     * 레포지토리의 Issue 목록 조회
+     */
+    public List<Issue> getRepositoryIssues(String token, String owner, String repo) {
+        return getIssues(token, owner, repo, Issue[].class);
+    }
+
+    /**
+     * 레포지토리의 Issue 요약 목록 조회 (집계용, 본문 등은 파싱하지 않음)
+     */
+    public List<IssueSummary> getRepositoryIssueSummaries(String token, String owner, String repo) {
+        return getIssues(token, owner, repo, IssueSummary[].class);
+    }
+
+    private <T> List<T> getPullRequests(String token, String owner, String repo, Class<T[]> type) {
+        String url = String.format("https://api.github.com/repos/%s/%s/pulls?state=all&per_page=100", owner, repo);
+
+        try {
+            return getList(token, url, type);
+        } catch (Exception e) {
+            log.error("Failed to fetch pull requests for {}/{}: {}", owner, repo, e.getMessage());
+        }
+
+        return new ArrayList<>();
+    }
+
+    private <T> List<T> getIssues(String token, String owner, String repo, Class<T[]> type) {
+        String url = String.format("https://api.github.com/repos/%s/%s/issues?state=all&per_page=100", owner, repo);
+
+        try {
+            return getList(token, url, type);
+        } catch (Exception e) {
+            log.error("Failed to fetch issues for {}/{}: {}", owner, repo, e.getMessage());
+        }
+
+        return new ArrayList<>();
+    }
+
+    private <T> List<T> getList(String token, String url, Class<T[]> type) {
+        T[] items = http.get(url, token, type);
+
+        if (items != null) {
+            return Arrays.asList(items);
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * 예열: 커밋 목록/상세 스트리밍 파서를 합성 응답으로 한 번씩 실행 (네트워크 없음)
+     */
+    public void warmUpParsers(byte[] commitPage, byte[] commitDetail) throws IOException {
+        CommitPageParser.parse(new ByteArrayInputStream(commitPage), (sha, login, avatarUrl, authorName, date) -> {
+        });
+        CommitDetailParser.parse(new ByteArrayInputStream(commitDetail));
+    }
+
+    /**
+     * 토큰의 남은 core API 호출 수 (rate_limit 조회는 한도를 차감하지 않음, 조회 실패 시 -1)
+     */
+    public int getRemainingRateLimit(String token) {
+        try {
+            Map<?, ?> response = http.get(RATE_LIMIT_URL, token, Map.class);
+            Object rate = response != null ? response.get("rate") : null;
+            Object remaining = rate instanceof Map ? ((Map<?, ?>) rate).get("remaining") : null;
+            return remaining instanceof Number ? ((Number) remaining).intValue() : -1;
+        } catch (Exception e) {
+            log.warn("Failed to fetch rate limit: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 예열: GitHub API 연결 수립 (인증 없는 rate_limit 조회는 한도를 차감하지 않음)
+     * TLS/HTTP 클래스 로딩과 DNS 조회를 미리 끝내고, 성공하면 연결이 keep-alive 풀에 남음
+     */
+    public boolean warmUpConnection() {
+        try {
+            http.get(RATE_LIMIT_URL, null, Map.class);
+            return true;
+        } catch (Exception e) {
+            log.warn("GitHub connection warm-up failed: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.tally.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 경로 -> 언어 판별 (Linguist 방식의 파일명/확장자 테이블)
+ *
+ * 테이블은 클래스 로딩 시 충돌 없는 시드를 찾아 완전 해시로 만들어 두므로,
+ * 조회는 경로의 확장자 구간을 해시 한 번과 문자 비교 한 번으로 끝내고 문자열을 새로 만들지 않는다.
+ * 언어는 0부터 시작하는 int 인덱스로 반환하므로 호출하는 쪽은 기본형 배열로 집계할 수 있다.
+ */
+public final class LanguageDetector {
+
+    // 확장자 -> 언어 (소문자)
+    private static final String[][] EXTENSIONS = {
+            {"java", "Java"},
+            {"kt", "Kotlin"}, {"kts", "Kotlin"},
+            {"scala", "Scala"}, {"sc", "Scala"},
+            {"groovy", "Groovy"}, {"gradle", "Groovy"},
+            {"js", "JavaScript"}, {"mjs", "JavaScript"}, {"cjs", "JavaScript"}, {"jsx", "JavaScript"},
+            {"ts", "TypeScript"}, {"tsx", "TypeScript"}, {"mts", "TypeScript"}, {"cts", "TypeScript"},
+            {"vue", "Vue"},
+            {"svelte", "Svelte"},
+            {"html", "HTML"}, {"htm", "HTML"},
+            {"css", "CSS"},
+            {"scss", "SCSS"},
+            {"sass", "Sass"},
+            {"less", "Less"},
+            {"py", "Python"}, {"pyi", "Python"},
+            {"ipynb", "Jupyter Notebook"},
+            {"go", "Go"},
+            {"rs", "Rust"},
+            {"rb", "Ruby"}, {"rake", "Ruby"},
+            {"php", "PHP"},
+            {"c", "C"}, {"h", "C"},
+            {"cc", "C++"}, {"cpp", "C++"}, {"cxx", "C++"}, {"hpp", "C++"}, {"hh", "C++"}, {"hxx", "C++"},
+            {"cs", "C#"},
+            {"m", "Objective-C"}, {"mm", "Objective-C"},
+            {"swift", "Swift"},
+            {"dart", "Dart"},
+            {"sh", "Shell"}, {"bash", "Shell"}, {"zsh", "Shell"},
+            {"ps1", "PowerShell"}, {"psm1", "PowerShell"},
+            {"bat", "Batchfile"}, {"cmd", "Batchfile"},
+            {"sql", "SQL"},
+            {"md", "Markdown"}, {"markdown", "Markdown"}, {"mdx", "MDX"},
+            {"yml", "YAML"}, {"yaml", "YAML"},
+            {"json", "JSON"},
+            {"xml", "XML"},
+            {"toml", "TOML"},
+            {"tf", "HCL"}, {"hcl", "HCL"},
+            {"lua", "Lua"},
+            {"r", "R"},
+            {"pl", "Perl"}, {"pm", "Perl"},
+            {"hs", "Haskell"},
+            {"ex", "Elixir"}, {"exs", "Elixir"},
+            {"erl", "Erlang"},
+            {"clj", "Clojure"}, {"cljs", "Clojure"},
+            {"proto", "Protocol Buffers"},
+            {"graphql", "GraphQL"}, {"gql", "GraphQL"},
+            {"cmake", "CMake"},
+    };
+
+    // 확장자보다 우선하는 파일명 (소문자)
+    private static final String[][] FILENAMES = {
+            {"dockerfile", "Dockerfile"},
+            {"makefile", "Makefile"}, {"gnumakefile", "Makefile"},
+            {"cmakelists.txt", "CMake"},
+            {"gemfile", "Ruby"}, {"rakefile", "Ruby"}, {"vagrantfile", "Ruby"}, {"podfile", "Ruby"},
+            {"jenkinsfile", "Groovy"},
+    };
+
+    private static final String[] LANGUAGES;
+    private static final PerfectHashTable EXTENSION_TABLE;
+    private static final PerfectHashTable FILENAME_TABLE;
+
+    static {
+        List<String> languages = new ArrayList<>();
+        EXTENSION_TABLE = PerfectHashTable.build(EXTENSIONS, languages);
+        FILENAME_TABLE = PerfectHashTable.build(FILENAMES, languages);
+        LANGUAGES = languages.toArray(new String[0]);
+    }
+
+    private LanguageDetector() {
+    }
+
+    /**
+     * 언어 인덱스 (판별할 수 없으면 -1)
+     */
+    public static int languageOf(String path) {
+        if (path == null) {
+            return -1;
+        }
+
+        int nameStart = path.lastIndexOf('/') + 1;
+        int language = FILENAME_TABLE.find(path, nameStart, path.length());
+        if (language >= 0) {
+            return language;
+        }
+
+        int dot = path.lastIndexOf('.');
+        if (dot < nameStart || dot == path.length() - 1) {
+            return -1;
+        }
+        return EXTENSION_TABLE.find(path, dot + 1, path.length());
+    }
+
+    public static String languageName(int language) {
+        return LANGUAGES[language];
+    }
+
+    public static int languageCount() {
+        return LANGUAGES.length;
+    }
+
+    /**
+     * 언어별 라인 수 배열(언어 인덱스로 인덱싱) -> 언어 이름별 라인 수 (많은 순, 0은 제외)
+     */
+    public static Map<String, Integer> toDistribution(long[] linesPerLanguage) {
+        // 상위 32비트에 반전한 라인 수, 하위 32비트에 언어 인덱스를 넣어 정렬하면 라인 수 내림차순
+        long[] keys = new long[linesPerLanguage.length];
+        for (int i = 0; i < linesPerLanguage.length; i++) {
+            int lines = (int) Math.min(linesPerLanguage[i], Integer.MAX_VALUE);
+            keys[i] = ((long) (Integer.MAX_VALUE - lines) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (long key : keys) {
+            int language = (int) key;
+            if (linesPerLanguage[language] > 0) {
+                distribution.put(LANGUAGES[language], (int) Math.min(linesPerLanguage[language], Integer.MAX_VALUE));
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * 충돌 없는 시드를 찾아 만든 해시 테이블 (슬롯당 키 하나, 탐사 없음)
+     */
+    private static final class PerfectHashTable {
+        private final int seed;
+        private final int mask;
+        private final String[] keys;
+        private final int[] values;
+
+        private PerfectHashTable(int seed, int capacity) {
+            this.seed = seed;
+            this.mask = capacity - 1;
+            this.keys = new String[capacity];
+            this.values = new int[capacity];
+        }
+
+        static PerfectHashTable build(String[][] entries, List<String> languages) {
+            int capacity = Integer.highestOneBit(Math.max(1, entries.length)) * 8;
+            while (true) {
+                for (int seed = 1; seed <= 10_000; seed++) {
+                    PerfectHashTable table = tryBuild(entries, languages, seed, capacity);
+                    if (table != null) {
+                        return table;
+                    }
+                }
+                capacity *= 2;
+            }
+        }
+
+        private static PerfectHashTable tryBuild(String[][] entries, List<String> languages, int seed, int capacity) {
+            PerfectHashTable table = new PerfectHashTable(seed, capacity);
+            for (String[] entry : entries) {
+                int slot = hash(entry[0], 0, entry[0].length(), seed) & table.mask;
+                if (table.keys[slot] != null) {
+                    return null;
+                }
+                int language = languages.indexOf(entry[1]);
+                if (language < 0) {
+                    languages.add(entry[1]);
+                    language = languages.size() - 1;
+                }
+                table.keys[slot] = entry[0];
+                table.values[slot] = language;
+            }
+            return table;
+        }
+
+        int find(String text, int start, int end) {
+            int slot = hash(text, start, end, seed) & mask;
+            String key = keys[slot];
+            if (key == null || key.length() != end - start || !text.regionMatches(true, start, key, 0, key.length())) {
+                return -1;
+            }
+            return values[slot];
+        }
+
+        // ASCII 대소문자 무시 해시
+        private static int hash(String text, int start, int end, int seed) {
+            int h = seed;
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+                h = h * 31 + c;
+            }
+            h ^= h >>> 16;
+            h *= 0x45d9f3b;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package com.tally.service;
+
+import com.tally.domain.*;
+import com.tally.dto.IssueSummary;
+import com.tally.dto.PullRequestSummary;
+import com.tally.util.Deadline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조직 기여도 통계 집계 서비스 (Spring / Lambda 공용)
+ * 레포지토리를 최대 parallelism개까지 동시에 처리하고, 레포지토리마다 커밋/Issue/PR 조회를 병렬로 수행
+ * 커밋은 스트리밍으로 읽어 바로 집계하므로 커밋 목록을 메모리에 쌓지 않음
+ * pushed_at이 바뀌지 않은 레포지토리는 이전 스냅샷을 재사용 (RepositorySnapshotStore)
+ * 팀원별 집계는 int id로 인코딩한 컬럼형 테이블(ContributorTable)에 누적
+ */
+@Slf4j
+public class OrganizationStatsService {
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    // 레포지토리당 동시 조회 수 (커밋, Issue, PR)
+    private static final int FETCHES_PER_REPOSITORY = 3;
+
+    // 스트리밍 중간 결과에 포함하는 팀원 수
+    private static final int RUNNING_MEMBER_LIMIT = 50;
+
+    private final GitHubService gitHubService;
+    private final RepositorySnapshotStore snapshotStore;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public OrganizationStatsService() {
+        this(new GitHubService(), DEFAULT_PARALLELISM, new RepositorySnapshotStore());
+    }
+
+    public OrganizationStatsService(GitHubService gitHubService) {
+        this(gitHubService, DEFAULT_PARALLELISM, new RepositorySnapshotStore());
+    }
+
+    public OrganizationStatsService(GitHubService gitHubService, int parallelism, RepositorySnapshotStore snapshotStore) {
+        this.gitHubService = gitHubService;
+        this.snapshotStore = snapshotStore;
+        this.parallelism = Math.max(1, parallelism);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.parallelism * FETCHES_PER_REPOSITORY, runnable -> {
+            Thread thread = new Thread(runnable, "org-stats-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 레포지토리 하나의 집계가 끝날 때마다 호출되는 리스너 (스트리밍 응답용)
+     * 호출은 직렬화되어 있으므로 구현체가 동기화할 필요 없음
+     */
+    public interface Listener {
+        void onRepository(OrganizationStats.RepositoryContribution contribution,
+                          List<OrganizationStats.TeamMember> teamMembers,
+                          int completedRepositories, int totalRepositories);
+    }
+
+    /**
+     * 조직의 전체 기여도 통계 계산
+     */
+    public OrganizationStats getOrganizationStats(String token, String orgName, String username) {
+        return getOrganizationStats(token, orgName, username, 0, Deadline.none(), null);
+    }
+
+    /**
+     * 조직의 전체 기여도 통계 계산
+     * 마감 시간이 지나면 아직 시작하지 않은 조회를 취소하고 완료된 레포지토리만으로 partial 결과 반환
+     * (이미 실행 중인 조회는 중단되지 않고, 끝나더라도 결과에 더해지지 않음)
+     * 레포지토리별 진행 상황은 listener로 전달 (null 가능)
+     * memberLimit > 0이면 팀원 목록은 커밋 수 상위 memberLimit명만 포함
+     */
+    public OrganizationStats getOrganizationStats(String token, String orgName, String username, int memberLimit,
+                                                  Deadline deadline, Listener listener) {
+        // 조직의 모든 레포지토리 가져오기
+        List<GitHubRepository> orgRepos = gitHubService.getOrganizationRepositories(token, orgName);
+        Aggregation aggregation = new Aggregation(orgRepos.size(), memberLimit, listener);
+
+        // 동시에 처리하는 레포지토리 수 제한
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        List<CompletableFuture<?>> fetches = new ArrayList<>();
+
+        try {
+            for (GitHubRepository repo : orgRepos) {
+                if (aggregation.failure.get() != null) {
+                    break;
+                }
+
+                // 변경이 없는 레포지토리는 조회 없이 이전 결과 재사용
+                RepositorySnapshot reusable = RepositorySnapshotStore.isEmptyRepository(repo)
+                        ? emptySnapshot(repo)
+                        : snapshotStore.findReusable(repo);
+                if (reusable != null) {
+                    aggregation.coverage.addPrunedRepository(repo.getFullName());
+                    aggregation.add(repo, reusable, username);
+                    continue;
+                }
+
+                if (!tryAcquire(permits, deadline)) {
+                    break;
+                }
+
+                CompletableFuture<RepositorySnapshot> commits = CompletableFuture.supplyAsync(() ->
+                        tallyCommits(token, orgName, repo, deadline, aggregation.coverage), executor);
+                CompletableFuture<List<IssueSummary>> issues = CompletableFuture.supplyAsync(() ->
+                        gitHubService.getRepositoryIssueSummaries(token, orgName, repo.getName()), executor);
+                CompletableFuture<List<PullRequestSummary>> prs = CompletableFuture.supplyAsync(() ->
+                        gitHubService.getRepositoryPullRequestSummaries(token, orgName, repo.getName()), executor);
+                fetches.add(commits);
+                fetches.add(issues);
+                fetches.add(prs);
+
+                pending.add(CompletableFuture.allOf(commits, issues, prs).whenComplete((ignored, error) -> {
+                    try {
+                        if (error == null) {
+                            RepositorySnapshot snapshot = commits.join();
+                            snapshot.setIssues(issues.join().size());
+                            snapshot.setPullRequests(prs.join().size());
+                            // 마감 시간 때문에 잘렸을 수 있는 결과는 저장하지 않음
+                            if (!deadline.isExpired()) {
+                                snapshotStore.save(snapshot);
+                            }
+                            aggregation.add(repo, snapshot, username);
+                        } else if (!deadline.isExpired()) {
+                            log.error("Error processing repository {}: {}", repo.getName(), error.getMessage());
+                            aggregation.failedRepositories.add(repo.getFullName());
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            awaitAll(pending, deadline);
+        } finally {
+            // 이후에 끝나는 조회는 집계/리스너에 반영하지 않음 (응답을 만드는 동안 결과가 바뀌지 않도록)
+            aggregation.close();
+            // 대기열에서 아직 시작하지 않은 조회만 취소됨
+            // CompletableFuture.cancel은 실행 중인 스레드를 인터럽트하지 않으므로 진행 중인 GitHub 요청은 끝까지 실행됨
+            // (커밋 스트리밍은 브랜치마다 한 페이지를 읽고 각 요청 전에 마감 시간을 확인하므로, 마감 후에는
+            //  이미 보낸 요청 하나만 끝까지 읽음 - 그 요청도 요청/본문 읽기 타임아웃으로 제한됨)
+            for (CompletableFuture<?> fetch : fetches) {
+                fetch.cancel(false);
+            }
+        }
+
+        RuntimeException failure = aggregation.failure.get();
+        if (failure != null) {
+            throw failure;
+        }
+
+        return aggregation.toStats(orgName, orgRepos);
+    }
+
+    /**
+     * 커밋 페이지를 스트리밍으로 읽어 팀원별 컬럼 스냅샷 생성 (Issue/PR 수는 호출하는 쪽에서 채움)
+     */
+    private RepositorySnapshot tallyCommits(String token, String orgName, GitHubRepository repo,
+                                            Deadline deadline, AnalysisCoverage coverage) {
+        ContributorTable members = new ContributorTable();
+
+        int totalCommits = gitHubService.streamRepositoryCommits(token, orgName, repo.getName(), deadline, coverage,
+                (sha, login, avatarUrl, authorName, date) -> {
+                    // login이 없으면 작성자 이름으로 집계
+                    String author = login != null ? login : authorName;
+                    if (author != null && !author.isEmpty()) {
+                        members.addCommit(author, login != null ? avatarUrl : null, commitTimestamp(date));
+                    }
+                });
+
+        return RepositorySnapshot.builder()
+                .fullName(repo.getFullName())
+                .pushedAt(repo.getPushedAt())
+                .totalCommits(totalCommits)
+                .members(members.logins())
+                .avatars(members.avatarColumn())
+                .memberCommits(members.commitColumn())
+                .firstCommitAt(members.firstCommitColumn())
+                .lastCommitAt(members.lastCommitColumn())
+                .computedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private RepositorySnapshot emptySnapshot(GitHubRepository repo) {
+        return RepositorySnapshot.builder()
+                .fullName(repo.getFullName())
+                .pushedAt(repo.getPushedAt())
+                .members(new String[0])
+                .avatars(new String[0])
+                .memberCommits(new int[0])
+                .firstCommitAt(new long[0])
+                .lastCommitAt(new long[0])
+                .computedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    /**
+     * 커밋 작성 시각 (epoch seconds, 알 수 없으면 ContributorTable.NO_FIRST_COMMIT)
+     */
+    private static long commitTimestamp(String date) {
+        if (date == null) {
+            return ContributorTable.NO_FIRST_COMMIT;
+        }
+        try {
+            return Instant.parse(date).getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return ContributorTable.NO_FIRST_COMMIT;
+        }
+    }
+
+    private boolean tryAcquire(Semaphore permits, Deadline deadline) {
+        try {
+            if (deadline.isUnbounded()) {
+                permits.acquire();
+                return true;
+            }
+            return !deadline.isExpired()
+                    && permits.tryAcquire(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> pending, Deadline deadline) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]));
+        try {
+            if (deadline.isUnbounded()) {
+                all.join();
+            } else {
+                all.get(deadline.remainingMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            log.warn("Deadline reached with {} repositories still in flight",
+                    pending.stream().filter(f -> !f.isDone()).count());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 레포지토리 오류는 whenComplete에서 처리됨
+            log.debug("Organization stats wait finished with error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 하나의 집계 상태 (여러 스레드에서 동시에 갱신)
+     */
+    private static class Aggregation {
+        private static final double[] PERCENTILES = {50, 75, 90, 99};
+
+        private final int totalRepositories;
+        private final int memberLimit;
+        private final Listener listener;
+        private final AnalysisCoverage coverage = new AnalysisCoverage();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private final Set<String> failedRepositories = ConcurrentHashMap.newKeySet();
+
+        private final LongAdder totalCommits = new LongAdder();
+        private final LongAdder userCommits = new LongAdder();
+        private final LongAdder totalIssues = new LongAdder();
+        private final LongAdder totalPullRequests = new LongAdder();
+
+        // 팀원별 기여 (레포지토리 하나당 한 번만 잠금)
+        private final ContributorTable members = new ContributorTable();
+        private final Map<String, OrganizationStats.RepositoryContribution> repoContributions = new ConcurrentHashMap<>();
+
+        // add와 close를 직렬화 (close 이후에는 결과를 더하지 않음)
+        private final Object addLock = new Object();
+        private boolean closed;
+        private int completedRepositories;
+
+        Aggregation(int totalRepositories, int memberLimit, Listener listener) {
+            this.totalRepositories = totalRepositories;
+            this.memberLimit = memberLimit;
+            this.listener = listener;
+        }
+
+        /**
+         * 레포지토리 하나의 결과 합치기
+         */
+        void add(GitHubRepository repo, RepositorySnapshot snapshot, String username) {
+            synchronized (addLock) {
+                if (closed) {
+                    return;
+                }
+                addLocked(repo, snapshot, username);
+            }
+        }
+
+        /**
+         * 집계 종료 (호출 이후 끝나는 조회 결과와 리스너 호출은 무시)
+         */
+        void close() {
+            synchronized (addLock) {
+                closed = true;
+            }
+        }
+
+        private void addLocked(GitHubRepository repo, RepositorySnapshot snapshot, String username) {
+            int repoUserCommits = 0;
+            String[] logins = snapshot.getMembers();
+            int[] commits = snapshot.getMemberCommits();
+
+            synchronized (members) {
+                int repository = members.addRepository(repo.getFullName());
+                for (int i = 0; i < logins.length; i++) {
+                    members.add(repository, logins[i], snapshot.getAvatars()[i], commits[i],
+                            snapshot.getFirstCommitAt()[i], snapshot.getLastCommitAt()[i]);
+                    if (username != null && logins[i].equalsIgnoreCase(username)) {
+                        repoUserCommits += commits[i];
+                    }
+                }
+            }
+
+            int repoTotalCommits = snapshot.getTotalCommits();
+            totalCommits.add(repoTotalCommits);
+            userCommits.add(repoUserCommits);
+            totalIssues.add(snapshot.getIssues());
+            totalPullRequests.add(snapshot.getPullRequests());
+            coverage.addRepository(repo.getFullName());
+
+            double repoContributionPercentage = repoTotalCommits > 0
+                    ? (repoUserCommits * 100.0 / repoTotalCommits)
+                    : 0.0;
+
+            // 모든 레포지토리를 포함 (기여도 0%도 포함)
+            OrganizationStats.RepositoryContribution contribution = OrganizationStats.RepositoryContribution.builder()
+                    .name(repo.getName())
+                    .fullName(repo.getFullName())
+                    .url(repo.getUrl())
+                    .totalCommits(repoTotalCommits)
+                    .userCommits(repoUserCommits)
+                    .contributionPercentage(Math.round(repoContributionPercentage * 10.0) / 10.0)
+                    .lastUpdated(repo.getUpdatedAt())
+                    .build();
+            repoContributions.put(repo.getFullName(), contribution);
+
+            if (listener != null) {
+                if (failure.get() != null) {
+                    return;
+                }
+                completedRepositories++;
+                try {
+                    // 진행 중에는 상위 팀원만 전달 (대규모 조직에서 이벤트마다 전체 목록을 만들지 않도록)
+                    int limit = memberLimit > 0 ? Math.min(memberLimit, RUNNING_MEMBER_LIMIT) : RUNNING_MEMBER_LIMIT;
+                    listener.onRepository(contribution, buildTeamMembers(limit),
+                            completedRepositories, totalRepositories);
+                } catch (RuntimeException e) {
+                    // 리스너 예외(클라이언트 연결 종료 등)는 집계 전체를 중단시킴
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+
+        OrganizationStats toStats(String orgName, List<GitHubRepository> orgRepos) {
+            // 마감 시간까지 끝나지 않은 레포지토리는 제외 목록에 추가
+            for (GitHubRepository repo : orgRepos) {
+                if (!repoContributions.containsKey(repo.getFullName())
+                        && !failedRepositories.contains(repo.getFullName())) {
+                    coverage.addSkippedRepository(repo.getFullName());
+                }
+            }
+
+            int total = totalCommits.intValue();
+            int user = userCommits.intValue();
+            double overallContributionPercentage = total > 0 ? (user * 100.0 / total) : 0.0;
+
+            String avatarUrl = "";
+            String description = "";
+            if (!orgRepos.isEmpty() && orgRepos.get(0).getOwner() != null) {
+                avatarUrl = orgRepos.get(0).getOwner().getAvatarUrl();
+            }
+
+            // 기여도 순으로 정렬 (높은 기여도부터)
+            List<OrganizationStats.RepositoryContribution> contributions = new ArrayList<>(repoContributions.values());
+            contributions.sort((a, b) -> Double.compare(b.getContributionPercentage(), a.getContributionPercentage()));
+
+            // 기여한 레포지토리 수 계산 (userCommits > 0)
+            long contributedRepoCount = contributions.stream()
+                    .filter(r -> r.getUserCommits() > 0)
+                    .count();
+
+            List<OrganizationStats.TeamMember> teamMembers;
+            int totalMembers;
+            Map<String, Integer> percentiles = new LinkedHashMap<>();
+            synchronized (members) {
+                teamMembers = buildTeamMembers(memberLimit);
+                totalMembers = members.size();
+                for (double p : PERCENTILES) {
+                    percentiles.put("p" + (int) p, members.commitsAtPercentile(p));
+                }
+            }
+
+            OrganizationStats stats = OrganizationStats.builder()
+                    .organizationName(orgName)
+                    .avatarUrl(avatarUrl)
+                    .description(description)
+                    .totalRepositories((int) contributedRepoCount)  // 기여한 레포지토리 수
+                    .totalCommits(total)
+                    .userCommits(user)
+                    .contributionPercentage(Math.round(overallContributionPercentage * 10.0) / 10.0)
+                    .repositories(contributions)  // 모든 레포지토리 (0% 포함)
+                    .totalIssues(totalIssues.intValue())
+                    .totalPullRequests(totalPullRequests.intValue())
+                    .teamMembers(teamMembers)
+                    .totalMembers(totalMembers)
+                    .memberCommitPercentiles(percentiles)
+                    .partial(coverage.isPartial())
+                    .coverage(coverage)
+                    .build();
+
+            log.info("Organization {} stats: {} repos, {}/{} commits ({}%), {} members, partial: {} (skipped {} repos)",
+                    orgName, stats.getTotalRepositories(), user, total, stats.getContributionPercentage(),
+                    totalMembers, coverage.isPartial(), coverage.getSkippedRepositories().size());
+
+            return stats;
+        }
+
+        /**
+         * 팀원 리스트 생성 (커밋 수 기준 내림차순, limit <= 0이면 전체)
+         */
+        private List<OrganizationStats.TeamMember> buildTeamMembers(int limit) {
+            synchronized (members) {
+                long total = members.totalCommits();
+                int[] ids = members.topMembers(limit);
+                int[] repositoryCounts = members.repositoryCounts();
+
+                List<OrganizationStats.TeamMember> teamMembers = new ArrayList<>(ids.length);
+                for (int id : ids) {
+                    int commits = members.commits(id);
+                    teamMembers.add(OrganizationStats.TeamMember.builder()
+                            .login(members.login(id))
+                            .avatarUrl(members.avatarUrl(id))
+                            .commits(commits)
+                            .contributionPercentage(total > 0
+                                    ? Math.round(commits * 1000.0 / total) / 10.0
+                                    : 0.0)
+                            .rank(members.rank(id))
+                            .percentile(Math.round(members.percentile(id) * 10.0) / 10.0)
+                            .repositories(repositoryCounts[id])
+                            .firstCommitDate(toDate(members.firstCommitAt(id), ContributorTable.NO_FIRST_COMMIT))
+                            .lastCommitDate(toDate(members.lastCommitAt(id), ContributorTable.NO_LAST_COMMIT))
+                            .build());
+                }
+                return teamMembers;
+            }
+        }
+
+        private static String toDate(long epochSecond, long missing) {
+            return epochSecond == missing
+                    ? null
+                    : Instant.ofEpochSecond(epochSecond).atOffset(ZoneOffset.UTC).toLocalDate().toString();
+        }
+    }
+}
@@ -10,54 +10,49 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.Map;
 
 /**
  * PDF 리포트 생성 서비스
+ * 폰트/색상은 PdfResources에서 공유하고, 페이지 장식은 PdfPageChrome이 문서당 한 번 그려 페이지마다 찍는다.
  */
 @Slf4j
 public class PDFReportService {
 
-    // 색상 정의
-    private static final Color PRIMARY_COLOR = new Color(79, 70, 229);    // Indigo
-    private static final Color SUCCESS_COLOR = new Color(34, 197, 94);    // Green
-    private static final Color WARNING_COLOR = new Color(245, 158, 11);   // Amber
-    private static final Color DARK_COLOR = new Color(31, 41, 55);        // Gray-800
-    private static final Color LIGHT_COLOR = new Color(249, 250, 251);    // Gray-50
-    private static final Color BORDER_COLOR = new Color(229, 231, 235);   // Gray-200
-
-    // 폰트 정의
-    private Font titleFont;
-    private Font headerFont;
-    private Font subHeaderFont;
-    private Font normalFont;
-    private Font smallFont;
-    private Font boldFont;
-
-    public PDFReportService() {
-        initializeFonts();
+    private static final String DISCLAIMER_TEXT =
+        "* This certificate is for reference purposes only. " +
+        "Data is collected from public GitHub API and may not reflect all contributions.";
+    private static final DateTimeFormatter GENERATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * PDF 리포트 생성 (Base64 인코딩된 문자열 반환)
+     */
+    public String generateReport(ContributionStats stats) {
+        return Base64.getEncoder().encodeToString(generateReportBytes(stats));
     }
 
-    private void initializeFonts() {
-        // 기본 폰트 설정 (한글 지원을 위해 나중에 필요시 확장)
-        titleFont = new Font(Font.HELVETICA, 28, Font.BOLD, DARK_COLOR);
-        headerFont = new Font(Font.HELVETICA, 18, Font.BOLD, DARK_COLOR);
-        subHeaderFont = new Font(Font.HELVETICA, 14, Font.BOLD, DARK_COLOR);
-        normalFont = new Font(Font.HELVETICA, 11, Font.NORMAL, DARK_COLOR);
-        smallFont = new Font(Font.HELVETICA, 9, Font.NORMAL, new Color(107, 114, 128));
-        boldFont = new Font(Font.HELVETICA, 11, Font.BOLD, DARK_COLOR);
+    /**
+     * PDF 리포트 생성 (바이너리 응답용 원본 바이트)
+     */
+    public byte[] generateReportBytes(ContributionStats stats) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(32 * 1024);
+        writeReport(stats, baos);
+        return baos.toByteArray();
     }
 
     /**
-     * PDF 리포트 생성 (Base64 인코딩된 문자열 반환)
+     * PDF 리포트를 출력 스트림에 바로 렌더링 (문서 전체를 메모리에 모으지 않음)
+     * 스트림은 닫지 않으므로 호출한 쪽이 닫는다.
      */
-    public String generateReport(ContributionStats stats) {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+    public void writeReport(ContributionStats stats, OutputStream out) {
+        try {
             Document document = new Document(PageSize.A4, 40, 40, 50, 50);
-            PdfWriter writer = PdfWriter.getInstance(document, baos);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            writer.setPageEvent(new PdfPageChrome());
 
             document.open();
 
@@ -82,12 +77,10 @@ public class PDFReportService {
                 addIssueSection(document, stats);
             }
 
-            // 푸터
-            addFooter(document);
+            // 고지문
+            addDisclaimer(document);
 
             document.close();
-
-            return Base64.getEncoder().encodeToString(baos.toByteArray());
         } catch (Exception e) {
             log.error("PDF 생성 실패: {}", e.getMessage(), e);
             throw new RuntimeException("PDF 생성 실패", e);
@@ -95,26 +88,15 @@ public class PDFReportService {
     }
 
     private void addHeader(Document document, ContributionStats stats) throws DocumentException {
-        // 상단 장식 라인
-        PdfPTable topLine = new PdfPTable(1);
-        topLine.setWidthPercentage(100);
-        PdfPCell lineCell = new PdfPCell();
-        lineCell.setBackgroundColor(PRIMARY_COLOR);
-        lineCell.setFixedHeight(5);
-        lineCell.setBorder(Rectangle.NO_BORDER);
-        topLine.addCell(lineCell);
-        topLine.setSpacingAfter(30);
-        document.add(topLine);
-
-        // 타이틀
-        Paragraph title = new Paragraph("CONTRIBUTION CERTIFICATE", titleFont);
+        // 타이틀 (상단 장식 라인은 PdfPageChrome)
+        Paragraph title = new Paragraph("CONTRIBUTION CERTIFICATE", PdfResources.TITLE);
         title.setAlignment(Element.ALIGN_CENTER);
+        title.setSpacingBefore(20);
         title.setSpacingAfter(15);
         document.add(title);
 
         // 서브 타이틀
-        Font subtitleFont = new Font(Font.HELVETICA, 12, Font.NORMAL, new Color(107, 114, 128));
-        Paragraph subtitle = new Paragraph("GitHub Repository Contribution Analysis", subtitleFont);
+        Paragraph subtitle = new Paragraph("GitHub Repository Contribution Analysis", PdfResources.SUBTITLE);
         subtitle.setAlignment(Element.ALIGN_CENTER);
         subtitle.setSpacingAfter(25);
         document.add(subtitle);
@@ -124,15 +106,14 @@ public class PDFReportService {
 
         // 사용자 이름 (크게 표시)
         String username = stats.getUsername() != null ? stats.getUsername() : stats.getUserId();
-        Font userFont = new Font(Font.HELVETICA, 24, Font.BOLD, PRIMARY_COLOR);
-        Paragraph userPara = new Paragraph(username, userFont);
+        Paragraph userPara = new Paragraph(username, PdfResources.USER);
         userPara.setAlignment(Element.ALIGN_CENTER);
         userPara.setSpacingBefore(20);
         userPara.setSpacingAfter(10);
         document.add(userPara);
 
         // 레포지토리 이름
-        Paragraph repoName = new Paragraph(stats.getRepositoryFullName(), headerFont);
+        Paragraph repoName = new Paragraph(stats.getRepositoryFullName(), PdfResources.HEADER);
         repoName.setAlignment(Element.ALIGN_CENTER);
         repoName.setSpacingAfter(15);
         document.add(repoName);
@@ -144,21 +125,21 @@ public class PDFReportService {
         } else {
             periodStr += "N/A";
         }
-        Paragraph period = new Paragraph(periodStr, normalFont);
+        Paragraph period = new Paragraph(periodStr, PdfResources.BODY);
         period.setAlignment(Element.ALIGN_CENTER);
         period.setSpacingAfter(5);
         document.add(period);
 
         // 생성 날짜
-        String dateStr = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-        Paragraph date = new Paragraph("Generated: " + dateStr, smallFont);
+        String dateStr = LocalDateTime.now().format(GENERATED_AT_FORMAT);
+        Paragraph date = new Paragraph("Generated: " + dateStr, PdfResources.SMALL);
         date.setAlignment(Element.ALIGN_CENTER);
         date.setSpacingAfter(30);
         document.add(date);
     }
 
     private void addStatsSection(Document document, ContributionStats stats) throws DocumentException {
-        Paragraph sectionTitle = new Paragraph("Overview", headerFont);
+        Paragraph sectionTitle = new Paragraph("Overview", PdfResources.HEADER);
         sectionTitle.setSpacingBefore(20);
         sectionTitle.setSpacingAfter(15);
         document.add(sectionTitle);
@@ -169,48 +150,47 @@ public class PDFReportService {
         table.setSpacingAfter(20);
 
         // 총 커밋
-        addStatCard(table, "Total Commits", String.valueOf(stats.getTotalCommits()), "in project", PRIMARY_COLOR);
+        addStatCard(table, "Total Commits", String.valueOf(stats.getTotalCommits()), "in project", PdfResources.PRIMARY);
 
         // 내 커밋
         addStatCard(table, "My Commits", String.valueOf(stats.getUserCommits()),
-            String.format("%.1f%% contribution", stats.getCommitPercentage()), SUCCESS_COLOR);
+            String.format("%.1f%% contribution", stats.getCommitPercentage()), PdfResources.SUCCESS);
 
         // 코드 변경량
         String codeChanges = String.format("+%d / -%d",
             stats.getAdditions(),
             stats.getDeletions());
-        addStatCard(table, "Code Changes", codeChanges, "lines modified", WARNING_COLOR);
+        addStatCard(table, "Code Changes", codeChanges, "lines modified", PdfResources.WARNING);
 
         document.add(table);
     }
 
     private void addStatCard(PdfPTable table, String label, String value, String subValue, Color accentColor) {
         PdfPCell cell = new PdfPCell();
-        cell.setBorderColor(BORDER_COLOR);
+        cell.setBorderColor(PdfResources.BORDER);
         cell.setBorderWidth(1);
         cell.setPadding(15);
-        cell.setBackgroundColor(LIGHT_COLOR);
+        cell.setBackgroundColor(PdfResources.LIGHT);
 
         // 라벨
-        Paragraph labelPara = new Paragraph(label, smallFont);
+        Paragraph labelPara = new Paragraph(label, PdfResources.SMALL);
         labelPara.setSpacingAfter(5);
         cell.addElement(labelPara);
 
         // 값
-        Font valueFont = new Font(Font.HELVETICA, 24, Font.BOLD, accentColor);
-        Paragraph valuePara = new Paragraph(value, valueFont);
+        Paragraph valuePara = new Paragraph(value, PdfResources.statValue(accentColor));
         valuePara.setSpacingAfter(3);
         cell.addElement(valuePara);
 
         // 서브값
-        Paragraph subPara = new Paragraph(subValue, smallFont);
+        Paragraph subPara = new Paragraph(subValue, PdfResources.SMALL);
         cell.addElement(subPara);
 
         table.addCell(cell);
     }
 
     private void addRoleDistributionSection(Document document, ContributionStats stats) throws DocumentException {
-        Paragraph sectionTitle = new Paragraph("Role Distribution", headerFont);
+        Paragraph sectionTitle = new Paragraph("Role Distribution", PdfResources.HEADER);
         sectionTitle.setSpacingBefore(20);
         sectionTitle.setSpacingAfter(15);
         document.add(sectionTitle);
@@ -220,17 +200,6 @@ public class PDFReportService {
         table.setWidths(new float[]{1, 3});
         table.setSpacingAfter(20);
 
-        // 역할별 색상 매핑
-        Map<String, Color> roleColors = Map.of(
-            "backend", new Color(59, 130, 246),
-            "frontend", new Color(16, 185, 129),
-            "infrastructure", new Color(245, 158, 11),
-            "test", new Color(139, 92, 246),
-            "documentation", new Color(236, 72, 153),
-            "configuration", new Color(107, 114, 128),
-            "other", new Color(156, 163, 175)
-        );
-
         stats.getRoleDistribution().entrySet().stream()
             .filter(entry -> entry.getValue().getCommitCount() > 0)
             .sorted((a, b) -> Double.compare(b.getValue().getPercentage(), a.getValue().getPercentage()))
@@ -238,14 +207,13 @@ public class PDFReportService {
                 try {
                     String role = entry.getKey();
                     RoleStats roleStats = entry.getValue();
-                    Color color = roleColors.getOrDefault(role.toLowerCase(), DARK_COLOR);
+                    Color color = PdfResources.roleColor(role);
 
                     // 역할명
                     PdfPCell nameCell = new PdfPCell();
                     nameCell.setBorder(Rectangle.NO_BORDER);
                     nameCell.setPadding(8);
-                    Font roleFont = new Font(Font.HELVETICA, 11, Font.BOLD, color);
-                    nameCell.addElement(new Paragraph(capitalize(role), roleFont));
+                    nameCell.addElement(new Paragraph(capitalize(role), PdfResources.roleFont(color)));
                     table.addCell(nameCell);
 
                     // 프로그레스 바 + 퍼센트
@@ -261,7 +229,7 @@ public class PDFReportService {
                     // 바 셀
                     PdfPCell innerBarCell = new PdfPCell();
                     innerBarCell.setBorder(Rectangle.NO_BORDER);
-                    innerBarCell.setBackgroundColor(new Color(229, 231, 235));
+                    innerBarCell.setBackgroundColor(PdfResources.BORDER);
                     innerBarCell.setPadding(0);
                     innerBarCell.setFixedHeight(20);
 
@@ -282,7 +250,7 @@ public class PDFReportService {
                     percentCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
                     percentCell.setVerticalAlignment(Element.ALIGN_MIDDLE);
                     String percentText = String.format("%.1f%% (%d)", roleStats.getPercentage(), roleStats.getCommitCount());
-                    percentCell.addElement(new Paragraph(percentText, smallFont));
+                    percentCell.addElement(new Paragraph(percentText, PdfResources.SMALL));
                     barTable.addCell(percentCell);
 
                     barCell.addElement(barTable);
@@ -296,7 +264,7 @@ public class PDFReportService {
     }
 
     private void addPullRequestSection(Document document, ContributionStats stats) throws DocumentException {
-        Paragraph sectionTitle = new Paragraph("Pull Requests (" + stats.getPullRequests().size() + ")", headerFont);
+        Paragraph sectionTitle = new Paragraph("Pull Requests (" + stats.getPullRequests().size() + ")", PdfResources.HEADER);
         sectionTitle.setSpacingBefore(20);
         sectionTitle.setSpacingAfter(15);
         document.add(sectionTitle);
@@ -324,7 +292,7 @@ public class PDFReportService {
         document.add(table);
 
         if (stats.getPullRequests().size() > 10) {
-            Paragraph more = new Paragraph("... and " + (stats.getPullRequests().size() - 10) + " more", smallFont);
+            Paragraph more = new Paragraph("... and " + (stats.getPullRequests().size() - 10) + " more", PdfResources.SMALL);
             more.setAlignment(Element.ALIGN_CENTER);
             more.setSpacingAfter(10);
             document.add(more);
@@ -332,7 +300,7 @@ public class PDFReportService {
     }
 
     private void addIssueSection(Document document, ContributionStats stats) throws DocumentException {
-        Paragraph sectionTitle = new Paragraph("Issues (" + stats.getIssues().size() + ")", headerFont);
+        Paragraph sectionTitle = new Paragraph("Issues (" + stats.getIssues().size() + ")", PdfResources.HEADER);
         sectionTitle.setSpacingBefore(20);
         sectionTitle.setSpacingAfter(15);
         document.add(sectionTitle);
@@ -360,7 +328,7 @@ public class PDFReportService {
         document.add(table);
 
         if (stats.getIssues().size() > 10) {
-            Paragraph more = new Paragraph("... and " + (stats.getIssues().size() - 10) + " more", smallFont);
+            Paragraph more = new Paragraph("... and " + (stats.getIssues().size() - 10) + " more", PdfResources.SMALL);
             more.setAlignment(Element.ALIGN_CENTER);
             more.setSpacingAfter(10);
             document.add(more);
@@ -368,43 +336,28 @@ public class PDFReportService {
     }
 
     private void addTableHeader(PdfPTable table, String text) {
-        PdfPCell cell = new PdfPCell(new Paragraph(text, boldFont));
-        cell.setBackgroundColor(LIGHT_COLOR);
-        cell.setBorderColor(BORDER_COLOR);
+        PdfPCell cell = new PdfPCell(new Paragraph(text, PdfResources.BODY_BOLD));
+        cell.setBackgroundColor(PdfResources.LIGHT);
+        cell.setBorderColor(PdfResources.BORDER);
         cell.setPadding(10);
         table.addCell(cell);
     }
 
     private void addTableCell(PdfPTable table, String text) {
-        PdfPCell cell = new PdfPCell(new Paragraph(text, normalFont));
-        cell.setBorderColor(BORDER_COLOR);
+        PdfPCell cell = new PdfPCell(new Paragraph(text, PdfResources.BODY));
+        cell.setBorderColor(PdfResources.BORDER);
         cell.setPadding(8);
         table.addCell(cell);
     }
 
     private void addStatusCell(PdfPTable table, String status) {
-        Color bgColor;
-        Color textColor = Color.WHITE;
-
-        if ("merged".equalsIgnoreCase(status)) {
-            bgColor = new Color(139, 92, 246);  // Purple
-        } else if ("open".equalsIgnoreCase(status)) {
-            bgColor = SUCCESS_COLOR;
-        } else if ("closed".equalsIgnoreCase(status)) {
-            bgColor = new Color(239, 68, 68);   // Red
-        } else {
-            bgColor = new Color(107, 114, 128);
-            textColor = Color.WHITE;
-        }
-
         PdfPCell cell = new PdfPCell();
-        cell.setBorderColor(BORDER_COLOR);
-        cell.setBackgroundColor(bgColor);
+        cell.setBorderColor(PdfResources.BORDER);
+        cell.setBackgroundColor(PdfResources.statusColor(status));
         cell.setPadding(8);
         cell.setHorizontalAlignment(Element.ALIGN_CENTER);
 
-        Font statusFont = new Font(Font.HELVETICA, 10, Font.BOLD, textColor);
-        cell.addElement(new Paragraph(status.toUpperCase(), statusFont));
+        cell.addElement(new Paragraph(status.toUpperCase(), PdfResources.STATUS));
         table.addCell(cell);
     }
 
@@ -413,7 +366,7 @@ public class PDFReportService {
         divider.setWidthPercentage(100);
         PdfPCell cell = new PdfPCell();
         cell.setBorder(Rectangle.BOTTOM);
-        cell.setBorderColor(BORDER_COLOR);
+        cell.setBorderColor(PdfResources.BORDER);
         cell.setBorderWidth(1);
         cell.setFixedHeight(1);
         divider.addCell(cell);
@@ -421,49 +374,21 @@ public class PDFReportService {
         document.add(divider);
     }
 
-    private void addFooter(Document document) throws DocumentException {
-        // 하단 장식 라인
-        PdfPTable bottomLine = new PdfPTable(1);
-        bottomLine.setWidthPercentage(100);
-        PdfPCell lineCell = new PdfPCell();
-        lineCell.setBackgroundColor(PRIMARY_COLOR);
-        lineCell.setFixedHeight(3);
-        lineCell.setBorder(Rectangle.NO_BORDER);
-        bottomLine.addCell(lineCell);
-        bottomLine.setSpacingBefore(30);
-        bottomLine.setSpacingAfter(15);
-        document.add(bottomLine);
-
-        // 참고용 고지문 (박스)
+    private void addDisclaimer(Document document) throws DocumentException {
+        // 참고용 고지문 (박스, 하단 장식 라인과 Tally 표기는 PdfPageChrome)
         PdfPTable disclaimerBox = new PdfPTable(1);
         disclaimerBox.setWidthPercentage(90);
+        disclaimerBox.setSpacingBefore(30);
         PdfPCell disclaimerCell = new PdfPCell();
-        disclaimerCell.setBackgroundColor(new Color(254, 249, 195)); // Yellow-100
-        disclaimerCell.setBorderColor(new Color(253, 224, 71)); // Yellow-300
+        disclaimerCell.setBackgroundColor(PdfResources.DISCLAIMER_BACKGROUND);
+        disclaimerCell.setBorderColor(PdfResources.DISCLAIMER_BORDER);
         disclaimerCell.setPadding(12);
 
-        Font disclaimerFont = new Font(Font.HELVETICA, 9, Font.NORMAL, new Color(133, 77, 14)); // Yellow-800
-        Paragraph disclaimer = new Paragraph(
-            "* This certificate is for reference purposes only. " +
-            "Data is collected from public GitHub API and may not reflect all contributions.",
-            disclaimerFont
-        );
+        Paragraph disclaimer = new Paragraph(DISCLAIMER_TEXT, PdfResources.DISCLAIMER);
         disclaimer.setAlignment(Element.ALIGN_CENTER);
         disclaimerCell.addElement(disclaimer);
         disclaimerBox.addCell(disclaimerCell);
-        disclaimerBox.setSpacingAfter(15);
         document.add(disclaimerBox);
-
-        // Tally 로고/이름
-        Font footerBoldFont = new Font(Font.HELVETICA, 10, Font.BOLD, DARK_COLOR);
-        Paragraph footerTitle = new Paragraph("Tally", footerBoldFont);
-        footerTitle.setAlignment(Element.ALIGN_CENTER);
-        footerTitle.setSpacingAfter(3);
-        document.add(footerTitle);
-
-        Paragraph footerDesc = new Paragraph("GitHub Contribution Analytics", smallFont);
-        footerDesc.setAlignment(Element.ALIGN_CENTER);
-        document.add(footerDesc);
     }
 
     private String capitalize(String str) {
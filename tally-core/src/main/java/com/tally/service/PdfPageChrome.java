@@ -0,0 +1,61 @@
+package com.tally.service;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.Element;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfPageEventHelper;
+import com.lowagie.text.pdf.PdfTemplate;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * 페이지 공통 장식 (상단 장식 라인, 하단 라인과 Tally 표기)
+ *
+ * 문서마다 PdfTemplate(XObject)으로 한 번만 그리고 각 페이지에는 참조만 찍는다.
+ * 장식은 여백 영역에 그리므로 본문 흐름에는 영향이 없다. PdfTemplate은 PdfWriter에 묶이므로 문서마다 새로 만든다.
+ */
+final class PdfPageChrome extends PdfPageEventHelper {
+    private static final float TOP_LINE_HEIGHT = 5;
+    private static final float BOTTOM_LINE_HEIGHT = 3;
+
+    private PdfTemplate chrome;
+
+    @Override
+    public void onEndPage(PdfWriter writer, Document document) {
+        if (chrome == null) {
+            chrome = render(writer.getDirectContent(), document);
+        }
+        writer.getDirectContentUnder().addTemplate(chrome, 0, 0);
+    }
+
+    private static PdfTemplate render(PdfContentByte content, Document document) {
+        Rectangle page = document.getPageSize();
+        float left = document.leftMargin();
+        float width = page.getWidth() - document.leftMargin() - document.rightMargin();
+        float center = left + width / 2;
+
+        PdfTemplate template = content.createTemplate(page.getWidth(), page.getHeight());
+
+        // 상단 장식 라인
+        template.setColorFill(PdfResources.PRIMARY);
+        template.rectangle(left, page.getHeight() - document.topMargin() + 15, width, TOP_LINE_HEIGHT);
+        template.fill();
+
+        // 하단 장식 라인
+        template.rectangle(left, document.bottomMargin() - 10, width, BOTTOM_LINE_HEIGHT);
+        template.fill();
+
+        // Tally 로고/이름
+        template.beginText();
+        template.setColorFill(PdfResources.DARK);
+        template.setFontAndSize(PdfResources.HELVETICA_BOLD, 10);
+        template.showTextAligned(Element.ALIGN_CENTER, "Tally", center, document.bottomMargin() - 24, 0);
+        template.setColorFill(PdfResources.MUTED);
+        template.setFontAndSize(PdfResources.HELVETICA, 9);
+        template.showTextAligned(Element.ALIGN_CENTER, "GitHub Contribution Analytics", center,
+            document.bottomMargin() - 36, 0);
+        template.endText();
+
+        return template;
+    }
+}
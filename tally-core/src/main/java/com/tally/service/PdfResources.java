@@ -0,0 +1,162 @@
+package com.tally.service;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * PDF 리포트 공용 리소스 (색상, 폰트)
+ *
+ * 폰트는 (family, size, style, color)별로 한 번만 만들어 모든 문서/스레드가 공유한다.
+ * Font(family, ...)는 글자를 쓸 때마다 BaseFont를 다시 조회하므로, 굵기/기울임이 반영된 BaseFont를 직접 지정해 만든다.
+ * 공유 객체이므로 돌려받은 Font/Color/BaseFont는 수정하지 않는다.
+ */
+final class PdfResources {
+
+    // 색상 정의
+    static final Color PRIMARY = new Color(79, 70, 229);     // Indigo
+    static final Color SUCCESS = new Color(34, 197, 94);     // Green
+    static final Color WARNING = new Color(245, 158, 11);    // Amber
+    static final Color DANGER = new Color(239, 68, 68);      // Red
+    static final Color MERGED = new Color(139, 92, 246);     // Purple
+    static final Color DARK = new Color(31, 41, 55);         // Gray-800
+    static final Color MUTED = new Color(107, 114, 128);     // Gray-500
+    static final Color LIGHT = new Color(249, 250, 251);     // Gray-50
+    static final Color BORDER = new Color(229, 231, 235);    // Gray-200
+    static final Color DISCLAIMER_BACKGROUND = new Color(254, 249, 195);  // Yellow-100
+    static final Color DISCLAIMER_BORDER = new Color(253, 224, 71);       // Yellow-300
+    static final Color DISCLAIMER_TEXT = new Color(133, 77, 14);          // Yellow-800
+
+    // 역할별 색상 매핑
+    private static final Map<String, Color> ROLE_COLORS = Map.of(
+        "backend", new Color(59, 130, 246),
+        "frontend", new Color(16, 185, 129),
+        "infrastructure", new Color(245, 158, 11),
+        "test", new Color(139, 92, 246),
+        "documentation", new Color(236, 72, 153),
+        "configuration", new Color(107, 114, 128),
+        "other", new Color(156, 163, 175)
+    );
+
+    private static final ConcurrentMap<FontKey, Font> FONTS = new ConcurrentHashMap<>();
+
+    // 페이지 장식(PdfTemplate)에 직접 쓰는 글꼴
+    static final BaseFont HELVETICA = baseFont(Font.HELVETICA, Font.NORMAL);
+    static final BaseFont HELVETICA_BOLD = baseFont(Font.HELVETICA, Font.BOLD);
+
+    // 폰트 정의
+    static final Font TITLE = font(Font.HELVETICA, 28, Font.BOLD, DARK);
+    static final Font HEADER = font(Font.HELVETICA, 18, Font.BOLD, DARK);
+    static final Font SUBTITLE = font(Font.HELVETICA, 12, Font.NORMAL, MUTED);
+    static final Font USER = font(Font.HELVETICA, 24, Font.BOLD, PRIMARY);
+    static final Font BODY = font(Font.HELVETICA, 11, Font.NORMAL, DARK);
+    static final Font BODY_BOLD = font(Font.HELVETICA, 11, Font.BOLD, DARK);
+    static final Font SMALL = font(Font.HELVETICA, 9, Font.NORMAL, MUTED);
+    static final Font STATUS = font(Font.HELVETICA, 10, Font.BOLD, Color.WHITE);
+    static final Font DISCLAIMER = font(Font.HELVETICA, 9, Font.NORMAL, DISCLAIMER_TEXT);
+
+    private PdfResources() {
+    }
+
+    /**
+     * 공유 폰트 조회 (처음 요청될 때 한 번 생성)
+     */
+    static Font font(int family, float size, int style, Color color) {
+        return FONTS.computeIfAbsent(new FontKey(family, size, style, color),
+            key -> new Font(baseFont(family, style), size, Font.NORMAL, color));
+    }
+
+    /**
+     * 통계 카드 값 폰트 (강조 색상별)
+     */
+    static Font statValue(Color accentColor) {
+        return font(Font.HELVETICA, 24, Font.BOLD, accentColor);
+    }
+
+    static Color roleColor(String role) {
+        return ROLE_COLORS.getOrDefault(role.toLowerCase(), DARK);
+    }
+
+    static Font roleFont(Color roleColor) {
+        return font(Font.HELVETICA, 11, Font.BOLD, roleColor);
+    }
+
+    /**
+     * PR/Issue 상태 배지 배경색
+     */
+    static Color statusColor(String status) {
+        if ("merged".equalsIgnoreCase(status)) {
+            return MERGED;
+        } else if ("open".equalsIgnoreCase(status)) {
+            return SUCCESS;
+        } else if ("closed".equalsIgnoreCase(status)) {
+            return DANGER;
+        }
+        return MUTED;
+    }
+
+    private static BaseFont baseFont(int family, int style) {
+        try {
+            return BaseFont.createFont(baseFontName(family, style), BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("PDF 폰트 로드 실패: " + family + "/" + style, e);
+        }
+    }
+
+    // 표준 14 폰트 이름 (Font.BOLD/ITALIC 조합)
+    private static String baseFontName(int family, int style) {
+        boolean bold = (style & Font.BOLD) != 0;
+        boolean italic = (style & Font.ITALIC) != 0;
+        if (family == Font.TIMES_ROMAN) {
+            if (bold && italic) return BaseFont.TIMES_BOLDITALIC;
+            if (bold) return BaseFont.TIMES_BOLD;
+            if (italic) return BaseFont.TIMES_ITALIC;
+            return BaseFont.TIMES_ROMAN;
+        }
+        if (family == Font.COURIER) {
+            if (bold && italic) return BaseFont.COURIER_BOLDOBLIQUE;
+            if (bold) return BaseFont.COURIER_BOLD;
+            if (italic) return BaseFont.COURIER_OBLIQUE;
+            return BaseFont.COURIER;
+        }
+        if (bold && italic) return BaseFont.HELVETICA_BOLDOBLIQUE;
+        if (bold) return BaseFont.HELVETICA_BOLD;
+        if (italic) return BaseFont.HELVETICA_OBLIQUE;
+        return BaseFont.HELVETICA;
+    }
+
+    private static final class FontKey {
+        private final int family;
+        private final float size;
+        private final int style;
+        private final int rgb;
+
+        private FontKey(int family, float size, int style, Color color) {
+            this.family = family;
+            this.size = size;
+            this.style = style;
+            this.rgb = color.getRGB();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FontKey)) return false;
+            FontKey other = (FontKey) o;
+            return family == other.family && Float.compare(size, other.size) == 0
+                && style == other.style && rgb == other.rgb;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(family, size, style, rgb);
+        }
+    }
+}
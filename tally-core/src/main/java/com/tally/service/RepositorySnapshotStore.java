@@ -0,0 +1,110 @@
+package com.tally.service;
+
+import com.tally.domain.GitHubRepository;
+import com.tally.domain.RepositorySnapshot;
+import com.tally.util.JsonFileUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 레포지토리 스냅샷 저장소 (메모리 + 선택적으로 디스크)
+ *
+ * pushed_at이 같으면 커밋 내용이 바뀌지 않았으므로 스냅샷을 재사용한다.
+ * Issue/PR 수는 pushed_at에 반영되지 않으므로 maxAge가 지나면 다시 조회한다 (아카이브된 레포는 예외).
+ */
+@Slf4j
+public class RepositorySnapshotStore {
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofDays(7);
+
+    private static final String FILE_SUFFIX = ".json";
+
+    private final Map<String, RepositorySnapshot> snapshots = new ConcurrentHashMap<>();
+    private final String directory;  // null이면 메모리에만 보관
+    private final Duration maxAge;
+
+    public RepositorySnapshotStore() {
+        this(null, DEFAULT_MAX_AGE);
+    }
+
+    public RepositorySnapshotStore(String directory, Duration maxAge) {
+        this.directory = directory == null || directory.isEmpty() ? null : directory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * 빈 레포지토리 여부 (커밋 조회 없이 0으로 처리)
+     */
+    public static boolean isEmptyRepository(GitHubRepository repo) {
+        return repo.getSize() != null && repo.getSize() == 0
+                && (repo.getPushedAt() == null || repo.getPushedAt().equals(repo.getCreatedAt()));
+    }
+
+    /**
+     * 재사용 가능한 스냅샷 조회 (없거나 레포지토리가 바뀌었으면 null)
+     */
+    public RepositorySnapshot findReusable(GitHubRepository repo) {
+        if (repo.getFullName() == null || repo.getPushedAt() == null) {
+            return null;
+        }
+
+        RepositorySnapshot snapshot = snapshots.get(repo.getFullName());
+        if (snapshot == null && directory != null) {
+            snapshot = loadFromDisk(repo.getFullName());
+        }
+
+        if (snapshot == null || !repo.getPushedAt().equals(snapshot.getPushedAt())) {
+            return null;
+        }
+
+        // 팀원 컬럼이 없는 이전 형식의 스냅샷은 다시 계산
+        if (snapshot.getMembers() == null || snapshot.getMemberCommits() == null) {
+            return null;
+        }
+
+        boolean archived = Boolean.TRUE.equals(repo.getArchived());
+        if (!archived && System.currentTimeMillis() - snapshot.getComputedAt() > maxAge.toMillis()) {
+            return null;
+        }
+
+        return snapshot;
+    }
+
+    public void save(RepositorySnapshot snapshot) {
+        if (snapshot.getFullName() == null || snapshot.getPushedAt() == null) {
+            return;
+        }
+
+        snapshots.put(snapshot.getFullName(), snapshot);
+
+        if (directory != null) {
+            try {
+                JsonFileUtil.writeToFile(filePath(snapshot.getFullName()), snapshot);
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist snapshot for {}: {}", snapshot.getFullName(), e.getMessage());
+            }
+        }
+    }
+
+    private RepositorySnapshot loadFromDisk(String fullName) {
+        String path = filePath(fullName);
+        if (!JsonFileUtil.fileExists(path)) {
+            return null;
+        }
+
+        RepositorySnapshot snapshot = JsonFileUtil.readFromFile(path, RepositorySnapshot.class);
+        if (snapshot == null || !fullName.equals(snapshot.getFullName())) {
+            return null;
+        }
+        snapshots.putIfAbsent(fullName, snapshot);
+        return snapshot;
+    }
+
+    private String filePath(String fullName) {
+        String fileName = fullName.replace("/", "__").replaceAll("[^A-Za-z0-9._-]", "_") + FILE_SUFFIX;
+        return Paths.get(directory, fileName).toString();
+    }
+}
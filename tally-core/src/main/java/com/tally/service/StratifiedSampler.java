@@ -0,0 +1,106 @@
+package com.tally.service;
+
+import java.util.Random;
+
+/**
+ * 시간 구간별 층화 표본 추출 및 비율 신뢰구간 계산
+ *
+ * 커밋을 시간순으로 정렬해 같은 크기의 구간(층)으로 나누고, 각 층에서 크기에 비례한 개수를 무작위로 뽑는다.
+ * 표본 크기는 목표 오차 범위(최악의 경우 p = 0.5)와 유한 모집단 보정으로 정한다.
+ */
+public final class StratifiedSampler {
+    public static final double Z_95 = 1.96;
+
+    private StratifiedSampler() {
+    }
+
+    /**
+     * 목표 오차 범위를 만족하는 표본 크기 (n0 = z²·p(1-p)/e², 유한 모집단 보정 적용)
+     */
+    public static int sampleSize(int population, double marginOfError, double z) {
+        if (population <= 0) {
+            return 0;
+        }
+        double n0 = z * z * 0.25 / (marginOfError * marginOfError);
+        double n = n0 / (1 + (n0 - 1) / population);
+        return (int) Math.min(population, Math.ceil(n));
+    }
+
+    /**
+     * 층 경계 (층 h는 [bounds[h], bounds[h + 1]) 구간, 각 층의 크기 차이는 최대 1)
+     */
+    public static int[] strata(int population, int strataCount) {
+        int count = Math.max(1, Math.min(strataCount, population));
+        int[] bounds = new int[count + 1];
+        for (int h = 0; h <= count; h++) {
+            bounds[h] = (int) ((long) population * h / count);
+        }
+        return bounds;
+    }
+
+    /**
+     * 층별 비례 배분으로 sampleSize개의 인덱스 추출 (결과는 층 순서, 층 안에서는 무작위 순서)
+     */
+    public static int[] sample(int[] bounds, int sampleSize, Random random) {
+        int population = bounds[bounds.length - 1];
+        int strataCount = bounds.length - 1;
+
+        // 최대 나머지 방식으로 층별 표본 수 배분
+        int[] allocation = new int[strataCount];
+        double[] remainders = new double[strataCount];
+        int allocated = 0;
+        for (int h = 0; h < strataCount; h++) {
+            double exact = (double) sampleSize * (bounds[h + 1] - bounds[h]) / population;
+            allocation[h] = (int) exact;
+            remainders[h] = exact - allocation[h];
+            allocated += allocation[h];
+        }
+        while (allocated < sampleSize) {
+            int best = -1;
+            for (int h = 0; h < strataCount; h++) {
+                if (allocation[h] < bounds[h + 1] - bounds[h] && (best < 0 || remainders[h] > remainders[best])) {
+                    best = h;
+                }
+            }
+            allocation[best]++;
+            remainders[best] = -1;
+            allocated++;
+        }
+
+        // 층마다 부분 Fisher-Yates 셔플로 비복원 추출
+        int[] selected = new int[sampleSize];
+        int next = 0;
+        for (int h = 0; h < strataCount; h++) {
+            int size = bounds[h + 1] - bounds[h];
+            int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = bounds[h] + i;
+            }
+            for (int i = 0; i < allocation[h]; i++) {
+                int j = i + random.nextInt(size - i);
+                int tmp = indices[i];
+                indices[i] = indices[j];
+                indices[j] = tmp;
+                selected[next++] = indices[i];
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 비율의 Wilson 점수 신뢰구간 [low, high] (0 ~ 1)
+     * 비복원 추출이므로 z²에 유한 모집단 보정 (N - n) / (N - 1)을 곱함 (전수 조사면 구간 폭 0)
+     */
+    public static double[] wilsonInterval(double proportion, int sampleSize, int population, double z) {
+        if (sampleSize <= 0) {
+            return new double[]{0.0, 1.0};
+        }
+        double fpc = population > 1 ? Math.max(0.0, (double) (population - sampleSize) / (population - 1)) : 0.0;
+        double z2 = z * z * fpc;
+        double denominator = 1 + z2 / sampleSize;
+        double center = (proportion + z2 / (2.0 * sampleSize)) / denominator;
+        double halfWidth = Math.sqrt(z2 * proportion * (1 - proportion) / sampleSize
+                + z2 * z2 / (4.0 * sampleSize * sampleSize)) / denominator;
+        return new double[]{Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth)};
+    }
+}
@@ -0,0 +1,63 @@
+package com.tally.util;
+
+/**
+ * 요청 처리 마감 시각
+ * 남은 시간이 없으면 추가 GitHub 호출을 중단하고 부분 결과를 반환하는 데 사용
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+    private final long expiresAtNanos;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * 마감 없음 (기존 동작)
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * 지금부터 millis 이후 마감
+     */
+    public static Deadline after(long millis) {
+        return new Deadline(System.nanoTime() + Math.max(0, millis) * 1_000_000L);
+    }
+
+    /**
+     * millis만큼 앞당긴 마감 시각 (뒤 단계에 쓸 시간을 남겨둘 때, 마감 없음이면 그대로)
+     */
+    public Deadline minus(long millis) {
+        if (isUnbounded()) {
+            return this;
+        }
+        return new Deadline(expiresAtNanos - Math.max(0, millis) * 1_000_000L);
+    }
+
+    public boolean isUnbounded() {
+        return expiresAtNanos == Long.MAX_VALUE;
+    }
+
+    public boolean isExpired() {
+        return !isUnbounded() && System.nanoTime() - expiresAtNanos >= 0;
+    }
+
+    /**
+     * 남은 시간 (ms), 마감 없음이면 Long.MAX_VALUE
+     */
+    public long remainingMillis() {
+        if (isUnbounded()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, (expiresAtNanos - System.nanoTime()) / 1_000_000L);
+    }
+
+    @Override
+    public String toString() {
+        return isUnbounded() ? "Deadline[none]" : "Deadline[" + remainingMillis() + "ms]";
+    }
+}
@@ -0,0 +1,28 @@
+package com.tally.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * GitHub API 응답 파싱용 공용 ObjectMapper
+ * 대상 타입에 없는 필드는 값을 만들지 않고 건너뛰므로 슬림 DTO(com.tally.dto)로 받으면 필요한 필드만 할당됨
+ */
+public final class GitHubJson {
+    public static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private GitHubJson() {
+    }
+
+    /**
+     * 스트리밍 파서용 팩토리
+     */
+    public static JsonFactory factory() {
+        return MAPPER.getFactory();
+    }
+}
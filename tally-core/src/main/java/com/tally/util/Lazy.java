@@ -0,0 +1,59 @@
+package com.tally.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 처음 사용할 때 한 번만 생성하는 값 (스레드 안전, double-checked locking)
+ * 생성에 실패하면 값을 저장하지 않으므로 다음 호출에서 다시 시도
+ */
+@Slf4j
+public final class Lazy<T> implements Supplier<T> {
+    private final String name;
+    private final Supplier<T> factory;
+    private final ObjLongConsumer<String> onInitialized;  // (이름, 생성 시간 ms)
+
+    private volatile T value;
+
+    private Lazy(String name, Supplier<T> factory, ObjLongConsumer<String> onInitialized) {
+        this.name = name;
+        this.factory = factory;
+        this.onInitialized = onInitialized;
+    }
+
+    public static <T> Lazy<T> of(String name, Supplier<T> factory) {
+        return new Lazy<>(name, factory, (n, millis) -> {
+        });
+    }
+
+    /**
+     * @param onInitialized 생성 직후 (이름, 생성 시간 ms)로 호출 (지표 기록용)
+     */
+    public static <T> Lazy<T> of(String name, Supplier<T> factory, ObjLongConsumer<String> onInitialized) {
+        return new Lazy<>(name, factory, onInitialized);
+    }
+
+    @Override
+    public T get() {
+        T current = value;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (value == null) {
+                long startedAt = System.nanoTime();
+                value = factory.get();
+                long millis = (System.nanoTime() - startedAt) / 1_000_000;
+                log.info("{} initialized on first use in {}ms", name, millis);
+                onInitialized.accept(name, millis);
+            }
+            return value;
+        }
+    }
+
+    public boolean isInitialized() {
+        return value != null;
+    }
+}
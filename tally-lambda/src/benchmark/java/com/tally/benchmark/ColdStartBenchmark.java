@@ -0,0 +1,115 @@
+package com.tally.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tally.domain.ContributionStats;
+import com.tally.lambda.SnapStartPriming;
+import com.tally.service.AIAnalysisService;
+import com.tally.service.GitHubService;
+import com.tally.service.PDFReportService;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콜드 스타트 벤치마크: SnapStart 예열 유무별 "복원 -> 첫 응답" 시간 비교
+ *
+ * 실제 스냅샷 복원은 Lambda에서만 가능하므로, 모드마다 새 JVM을 띄워 핸들러와 같은 서비스를 만들고
+ * (primed면 스냅샷 전에 실행되는 SnapStartPriming.prime()까지 수행한 뒤) 첫 요청 처리 시간만 잰다.
+ * 첫 요청은 /reports/pdf 응답 경로(분석 결과 JSON 직렬화 + PDF 생성 + 응답 직렬화)를 합성 데이터로 수행한다.
+ * 네트워크 예열은 하지 않는다.
+ *
+ * 실행: ./gradlew coldStartBenchmark -Pruns=10
+ */
+public class ColdStartBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--child")) {
+            runChild(args[1].equals("primed"));
+            return;
+        }
+
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        System.out.printf("Cold start benchmark (%d fresh JVMs per mode)%n", runs);
+        System.out.printf("%-10s %12s %12s %12s %12s%n", "mode", "init p50", "first p50", "first p90", "first min");
+        for (String mode : new String[]{"unprimed", "primed"}) {
+            List<Double> init = new ArrayList<>();
+            List<Double> first = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                double[] result = forkChild(mode);
+                init.add(result[0]);
+                first.add(result[1]);
+            }
+            Collections.sort(init);
+            Collections.sort(first);
+            System.out.printf("%-10s %10.1fms %10.1fms %10.1fms %10.1fms%n", mode,
+                    percentile(init, 0.5), percentile(first, 0.5), percentile(first, 0.9), first.get(0));
+        }
+    }
+
+    /**
+     * 새 JVM에서 한 번 측정 (결과: 초기화 ms, 첫 응답 ms)
+     */
+    private static double[] forkChild(String mode) throws Exception {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ColdStartBenchmark.class.getName(), "--child", mode)
+                .redirectErrorStream(true)
+                .start();
+
+        String last = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("RESULT ")) {
+                    last = line;
+                }
+            }
+        }
+        if (process.waitFor() != 0 || last == null) {
+            throw new IllegalStateException("Benchmark child failed (" + mode + ")");
+        }
+        String[] parts = last.split(" ");
+        return new double[]{Double.parseDouble(parts[1]), Double.parseDouble(parts[2])};
+    }
+
+    private static void runChild(boolean primed) throws Exception {
+        // 초기화 (SnapStart에서는 스냅샷 이전 단계)
+        long initStart = System.nanoTime();
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        GitHubService gitHubService = new GitHubService();
+        PDFReportService pdfService = new PDFReportService();
+        AIAnalysisService aiService = new AIAnalysisService();
+        SnapStartPriming priming = new SnapStartPriming(
+                objectMapper, gitHubService, () -> pdfService, () -> aiService, false);
+        if (primed) {
+            priming.prime();
+        }
+        long initNanos = System.nanoTime() - initStart;
+
+        // 복원 후 첫 요청
+        long requestStart = System.nanoTime();
+        ContributionStats stats = SnapStartPriming.sampleContributionStats();
+        objectMapper.writeValueAsString(stats);
+        String pdfBase64 = pdfService.generateReport(stats);
+        objectMapper.writeValueAsString(Map.of(
+                "content", pdfBase64,
+                "filename", "Hello-World-contribution-report.pdf",
+                "contentType", "application/pdf",
+                "encoding", "base64"));
+        long requestNanos = System.nanoTime() - requestStart;
+
+        System.out.printf("RESULT %.3f %.3f%n", initNanos / 1e6, requestNanos / 1e6);
+    }
+
+    private static double percentile(List<Double> sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,208 @@
+package com.tally.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tally.lambda.LambdaRuntime;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 Lambda Runtime API 하네스: 사용자 정의 런타임(bootstrap) 호출 검증
+ *
+ * Runtime API(/2018-06-01/runtime/...)를 흉내 내는 HTTP 서버를 띄우고 런타임 프로세스를 실행해
+ * 네트워크가 필요 없는 API Gateway 이벤트를 차례로 전달한 뒤 응답 상태 코드를 확인한다.
+ * 인자로 실행 파일 경로를 주면 그 파일(native-image 결과물)을, 없으면 현재 클래스패스의 JVM으로 LambdaRuntime을 실행한다.
+ * 모든 이벤트를 처리하면 다음 이벤트 요청을 끊어 런타임 루프를 종료시킨다.
+ * 첫 이벤트는 프로세스 시작과 함께 대기열에 넣으므로 첫 지연 시간에는 런타임 초기화가 포함된다.
+ *
+ * 실행: ./gradlew localInvoke (JVM), ./gradlew localInvoke -Pnative (native-image)
+ */
+public class LocalRuntimeHarness {
+    private static final String RUNTIME_PATH = "/2018-06-01/runtime";
+    private static final long INVOCATION_TIMEOUT_SECONDS = 30;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // 모든 이벤트 처리 후 다음 이벤트 요청을 끊는 표식
+    private static final Invocation END = new Invocation("end", "end", Map.of(), 0);
+
+    public static void main(String[] args) throws Exception {
+        List<Invocation> invocations = sampleInvocations();
+        BlockingQueue<Invocation> pending = new ArrayBlockingQueue<>(invocations.size() + 1);
+        BlockingQueue<Map<String, Object>> responses = new ArrayBlockingQueue<>(invocations.size());
+        long[] firstNextAt = {0};
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(RUNTIME_PATH + "/invocation/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/next")) {
+                synchronized (firstNextAt) {
+                    if (firstNextAt[0] == 0) {
+                        firstNextAt[0] = System.nanoTime();
+                    }
+                }
+                Invocation invocation = take(pending);
+                if (invocation == END) {
+                    exchange.close();
+                    return;
+                }
+                exchange.getResponseHeaders().set("Lambda-Runtime-Aws-Request-Id", invocation.requestId);
+                exchange.getResponseHeaders().set("Lambda-Runtime-Deadline-Ms",
+                        String.valueOf(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(INVOCATION_TIMEOUT_SECONDS)));
+                exchange.getResponseHeaders().set("Lambda-Runtime-Invoked-Function-Arn",
+                        "arn:aws:lambda:us-east-1:000000000000:function:tally-local");
+                respond(exchange, 200, MAPPER.writeValueAsBytes(invocation.event));
+                return;
+            }
+
+            // /invocation/{id}/response 또는 /invocation/{id}/error
+            Map<String, Object> body = MAPPER.readValue(exchange.getRequestBody(), Map.class);
+            body.put("_path", path);
+            body.put("_receivedAt", System.nanoTime());
+            responses.add(body);
+            respond(exchange, 202, new byte[0]);
+        });
+        server.createContext(RUNTIME_PATH + "/init/error", exchange -> {
+            System.out.println("INIT ERROR " + new String(exchange.getRequestBody().readAllBytes()));
+            respond(exchange, 202, new byte[0]);
+        });
+        server.start();
+
+        long startedAt = System.nanoTime();
+        ProcessBuilder builder = new ProcessBuilder(runtimeCommand(args)).inheritIO();
+        builder.environment().put("AWS_LAMBDA_RUNTIME_API", "127.0.0.1:" + server.getAddress().getPort());
+        builder.environment().put("AWS_LAMBDA_FUNCTION_NAME", "tally-local");
+        Process process = builder.start();
+        int failures = 0;
+        try {
+            System.out.printf("%-24s %8s %8s %10s%n", "event", "expected", "status", "latency");
+            for (Invocation invocation : invocations) {
+                long sentAt = System.nanoTime();
+                pending.add(invocation);
+                Map<String, Object> response = responses.poll(INVOCATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (response == null) {
+                    System.out.println("Timed out waiting for " + invocation.name);
+                    failures++;
+                    break;
+                }
+                Object status = ((String) response.get("_path")).endsWith("/error") ? "error" : response.get("statusCode");
+                boolean ok = Integer.valueOf(invocation.expectedStatus).equals(status);
+                if (!ok) {
+                    failures++;
+                }
+                System.out.printf("%-24s %8d %8s %8.1fms%s%n", invocation.name, invocation.expectedStatus, status,
+                        ((Long) response.get("_receivedAt") - sentAt) / 1_000_000.0, ok ? "" : "  <- FAILED");
+            }
+            if (firstNextAt[0] != 0) {
+                System.out.printf("init (process start -> first /next): %.1fms%n", (firstNextAt[0] - startedAt) / 1_000_000.0);
+            }
+        } finally {
+            pending.add(END);
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        System.out.println(failures == 0 ? "All invocations passed" : failures + " invocation(s) failed");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static List<String> runtimeCommand(String[] args) {
+        List<String> command = new ArrayList<>();
+        if (args.length > 0) {
+            command.add(args[0]);
+        } else {
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(LambdaRuntime.class.getName());
+        }
+        return command;
+    }
+
+    /**
+     * GitHub/Bedrock 호출 없이 처리되는 경로만 사용 (헬스체크, OAuth URL, CORS preflight, 인증/라우팅 오류)
+     */
+    private static List<Invocation> sampleInvocations() {
+        List<Invocation> invocations = new ArrayList<>();
+        invocations.add(new Invocation("local-1", "GET /health", event("GET", "/health", null), 200));
+        invocations.add(new Invocation("local-2", "GET /auth/github", event("GET", "/auth/github", null), 200));
+        invocations.add(new Invocation("local-3", "OPTIONS /analysis", event("OPTIONS", "/analysis/octocat/Hello-World", null), 200));
+        invocations.add(new Invocation("local-4", "GET /repositories", event("GET", "/repositories", null), 401));
+        invocations.add(new Invocation("local-5", "GET /unknown", event("GET", "/unknown", "local-token"), 404));
+        return invocations;
+    }
+
+    private static Map<String, Object> event(String method, String path, String token) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Accept", "application/json");
+        if (token != null) {
+            headers.put("Authorization", "Bearer " + token);
+        }
+
+        Map<String, Object> requestContext = new LinkedHashMap<>();
+        requestContext.put("requestId", "local");
+        requestContext.put("stage", "Prod");
+        requestContext.put("httpMethod", method);
+        requestContext.put("identity", Map.of("sourceIp", "127.0.0.1"));
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("resource", "/{proxy+}");
+        event.put("path", path);
+        event.put("httpMethod", method);
+        event.put("headers", headers);
+        event.put("queryStringParameters", null);
+        event.put("requestContext", requestContext);
+        event.put("body", null);
+        event.put("isBase64Encoded", false);
+        return event;
+    }
+
+    private static Invocation take(BlockingQueue<Invocation> pending) {
+        try {
+            return pending.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return END;
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static final class Invocation {
+        private final String requestId;
+        private final String name;
+        private final Map<String, Object> event;
+        private final int expectedStatus;
+
+        private Invocation(String requestId, String name, Map<String, Object> event, int expectedStatus) {
+            this.requestId = requestId;
+            this.name = name;
+            this.event = event;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+}
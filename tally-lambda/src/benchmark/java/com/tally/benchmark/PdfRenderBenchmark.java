@@ -0,0 +1,89 @@
+package com.tally.benchmark;
+
+import com.tally.domain.ContributionStats;
+import com.tally.lambda.SnapStartPriming;
+import com.tally.service.PDFReportService;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * PDF 렌더링 벤치마크: 초당 문서 수, 문서당 할당 바이트
+ *
+ * 합성 분석 결과(SnapStartPriming.sampleContributionStats)를 출력 없이(null 스트림) 렌더링해 렌더링 비용만 잰다.
+ * 할당량은 측정 스레드의 할당 바이트(com.sun.management.ThreadMXBean)로 구하며, 다중 스레드 처리량은 별도로 잰다.
+ * 변경 전후 비교는 같은 태스크를 이전 커밋에서 실행한다.
+ *
+ * 실행: ./gradlew pdfBenchmark -Pthreads=4
+ */
+public class PdfRenderBenchmark {
+    private static final int ROUNDS = 10;
+    private static final int DOCUMENTS_PER_ROUND = 200;
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        PDFReportService service = new PDFReportService();
+        ContributionStats stats = SnapStartPriming.sampleContributionStats();
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // 워밍업 (JIT, 폰트/리소스 초기화)
+        for (int i = 0; i < DOCUMENTS_PER_ROUND; i++) {
+            service.writeReport(stats, OutputStream.nullOutputStream());
+        }
+
+        System.out.printf("PDF render benchmark (%d documents x %d rounds)%n", DOCUMENTS_PER_ROUND, ROUNDS);
+        List<Double> docsPerSecond = new ArrayList<>();
+        List<Double> bytesPerDocument = new ArrayList<>();
+        long threadId = Thread.currentThread().getId();
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < DOCUMENTS_PER_ROUND; i++) {
+                service.writeReport(stats, OutputStream.nullOutputStream());
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            docsPerSecond.add(DOCUMENTS_PER_ROUND * 1e9 / elapsed);
+            bytesPerDocument.add((double) allocated / DOCUMENTS_PER_ROUND);
+        }
+        System.out.printf("%-22s %12.1f docs/s%n", "single thread p50", median(docsPerSecond));
+        System.out.printf("%-22s %12.1f KB/doc%n", "allocated p50", median(bytesPerDocument) / 1024);
+
+        // 동시 렌더링 (공유 폰트/리소스 경합 포함)
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Double> concurrent = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                long startedAt = System.nanoTime();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < DOCUMENTS_PER_ROUND; i++) {
+                            service.writeReport(stats, OutputStream.nullOutputStream());
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                concurrent.add(threads * DOCUMENTS_PER_ROUND * 1e9 / (System.nanoTime() - startedAt));
+            }
+            System.out.printf("%-22s %12.1f docs/s%n", threads + " threads p50", median(concurrent));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double median(List<Double> samples) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
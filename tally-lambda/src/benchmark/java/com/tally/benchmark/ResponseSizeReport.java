@@ -0,0 +1,172 @@
+package com.tally.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tally.domain.ContributionStats;
+import com.tally.domain.GitHubRepository;
+import com.tally.domain.OrganizationStats;
+import com.tally.domain.PullRequest;
+import com.tally.lambda.LambdaResponse;
+import com.tally.lambda.ProxyResponseWriter;
+import com.tally.lambda.SnapStartPriming;
+import com.tally.service.PDFReportService;
+import com.tally.util.GitHubJson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 크기 비교: 기존 RequestHandler 응답 vs 스트리밍 응답(identity/gzip), PDF는 JSON 속 Base64 vs 바이너리
+ *
+ * lambda: Lambda가 API Gateway로 넘기는 프록시 응답 JSON 크기 (응답 페이로드 6MB 한도 대상)
+ * client: API Gateway가 Base64를 풀어 클라이언트에 보내는 본문 크기 (HTTP 헤더 제외)
+ * 페이로드는 priming 리소스를 복제해 실제 규모(레포지토리 100개, PR 30개, 조직 레포 50개/팀원 30명)로 만든다.
+ *
+ * 실행: ./gradlew responseSizeReport
+ */
+public class ResponseSizeReport {
+    private static final Map<String, String> HEADERS = Map.of("Content-Type", "application/json");
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private static final ObjectMapper BODY_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    // LambdaRuntime/Lambda Java 런타임의 응답 직렬화와 같은 설정 (null 필드 생략)
+    private static final ObjectMapper EVENT_MAPPER = JsonMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        ContributionStats stats = analysisStats();
+        byte[] pdf = new PDFReportService().generateReportBytes(SnapStartPriming.sampleContributionStats());
+        Map<String, Object> pdfJson = new LinkedHashMap<>();
+        pdfJson.put("content", Base64.getEncoder().encodeToString(pdf));
+        pdfJson.put("filename", "Hello-World-contribution-report.pdf");
+        pdfJson.put("contentType", "application/pdf");
+        pdfJson.put("encoding", "base64");
+
+        ProxyResponseWriter writer = new ProxyResponseWriter(BODY_MAPPER, true, GZIP_MIN_BYTES);
+
+        System.out.println("Response size report (bytes)");
+        System.out.printf("%-24s %-16s %10s %10s%n", "payload", "encoding", "lambda", "client");
+        report(writer, "/repositories (100)", LambdaResponse.json(200, HEADERS, repositories(100)));
+        report(writer, "/analysis", LambdaResponse.json(200, HEADERS, stats));
+        report(writer, "/organizations/stats", LambdaResponse.json(200, HEADERS, organizationStats(50, 30)));
+        report(writer, "/reports/pdf (json)", LambdaResponse.json(200, HEADERS, pdfJson));
+        reportBinary(writer, "/reports/pdf (binary)",
+                LambdaResponse.binary(200, Map.of("Content-Type", "application/pdf"), pdf));
+    }
+
+    private static void report(ProxyResponseWriter writer, String name, LambdaResponse response) throws Exception {
+        byte[] legacy = EVENT_MAPPER.writeValueAsBytes(response.toEvent(BODY_MAPPER));
+        print(name, "legacy", legacy.length, response.toEvent(BODY_MAPPER).getBody().getBytes("UTF-8").length);
+
+        byte[] identity = write(writer, response, false);
+        print("", "stream", identity.length, clientBytes(identity));
+
+        byte[] gzip = write(writer, response, true);
+        print("", "stream+gzip", gzip.length, clientBytes(gzip));
+    }
+
+    private static void reportBinary(ProxyResponseWriter writer, String name, LambdaResponse response) throws Exception {
+        byte[] binary = write(writer, response, true);
+        print(name, "binary", binary.length, clientBytes(binary));
+    }
+
+    private static byte[] write(ProxyResponseWriter writer, LambdaResponse response, boolean acceptsGzip) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(response, out, acceptsGzip);
+        return out.toByteArray();
+    }
+
+    // API Gateway가 isBase64Encoded 본문을 풀어 보낸 크기
+    private static long clientBytes(byte[] envelope) throws Exception {
+        JsonNode node = EVENT_MAPPER.readTree(envelope);
+        String body = node.path("body").asText("");
+        if (node.path("isBase64Encoded").asBoolean()) {
+            return Base64.getDecoder().decode(body).length;
+        }
+        return body.getBytes("UTF-8").length;
+    }
+
+    private static void print(String name, String encoding, long lambdaBytes, long clientBytes) {
+        System.out.printf("%-24s %-16s %10d %10d%n", name, encoding, lambdaBytes, clientBytes);
+    }
+
+    private static List<GitHubRepository> repositories(int count) throws Exception {
+        GitHubRepository template;
+        try (InputStream in = ResponseSizeReport.class.getResourceAsStream("/priming/repositories.json")) {
+            template = GitHubJson.MAPPER.readValue(in, GitHubRepository[].class)[0];
+        }
+        List<GitHubRepository> repositories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            GitHubRepository repository = GitHubJson.MAPPER.readValue(
+                    GitHubJson.MAPPER.writeValueAsBytes(template), GitHubRepository.class);
+            repository.setId(template.getId() + i * 7919L);
+            repository.setName("project-" + Integer.toString(i * 2654435, 36));
+            repository.setFullName("octocat/" + repository.getName());
+            repository.setDescription("Sample repository " + i + " for response size measurement");
+            repository.setPushedAt(String.format("2024-%02d-%02dT%02d:%02d:00Z", i % 12 + 1, i % 28 + 1, i % 24, i % 60));
+            repositories.add(repository);
+        }
+        return repositories;
+    }
+
+    private static ContributionStats analysisStats() throws Exception {
+        ContributionStats stats = SnapStartPriming.sampleContributionStats();
+        List<PullRequest> pullRequests = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            PullRequest template = stats.getPullRequests().get(i % stats.getPullRequests().size());
+            PullRequest pullRequest = BODY_MAPPER.readValue(BODY_MAPPER.writeValueAsBytes(template), PullRequest.class);
+            pullRequest.setNumber((long) (i + 1));
+            pullRequest.setTitle("Improve contribution analysis step " + i);
+            pullRequests.add(pullRequest);
+        }
+        stats.setPullRequests(pullRequests);
+        return stats;
+    }
+
+    private static OrganizationStats organizationStats(int repositories, int members) {
+        List<OrganizationStats.RepositoryContribution> contributions = new ArrayList<>();
+        for (int i = 0; i < repositories; i++) {
+            contributions.add(OrganizationStats.RepositoryContribution.builder()
+                    .name("service-" + i)
+                    .fullName("tally-lab/service-" + i)
+                    .url("https://github.com/tally-lab/service-" + i)
+                    .totalCommits(100 + i * 13)
+                    .userCommits(i * 3)
+                    .contributionPercentage(i * 3 * 100.0 / (100 + i * 13))
+                    .lastUpdated(String.format("2024-%02d-%02dT10:00:00Z", i % 12 + 1, i % 28 + 1))
+                    .build());
+        }
+        List<OrganizationStats.TeamMember> teamMembers = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            teamMembers.add(OrganizationStats.TeamMember.builder()
+                    .login("member-" + i)
+                    .avatarUrl("https://avatars.githubusercontent.com/u/" + (1000 + i) + "?v=4")
+                    .commits(500 - i * 11)
+                    .contributionPercentage((500 - i * 11) / 100.0)
+                    .rank(i + 1)
+                    .percentile(100.0 - i * 100.0 / members)
+                    .repositories(1 + i % 9)
+                    .firstCommitDate("2023-01-" + String.format("%02d", i % 28 + 1))
+                    .lastCommitDate("2024-03-" + String.format("%02d", i % 28 + 1))
+                    .build());
+        }
+        return OrganizationStats.builder()
+                .organizationName("tally-lab")
+                .totalRepositories(repositories)
+                .totalCommits(contributions.stream().mapToInt(OrganizationStats.RepositoryContribution::getTotalCommits).sum())
+                .repositories(contributions)
+                .teamMembers(teamMembers)
+                .totalMembers(members)
+                .memberCommitPercentiles(Map.of("p50", 335, "p75", 418, "p90", 467, "p99", 500))
+                .build();
+    }
+}
@@ -0,0 +1,200 @@
+package com.tally.benchmark;
+
+import com.tally.lambda.Router;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우팅 비용 벤치마크: 기존 startsWith/matches/split 분기 vs 미리 컴파일된 트라이(Router)
+ *
+ * 두 방식 모두 핸들러 식별과 경로 변수 추출까지만 수행한다 (핸들러 실행 제외).
+ * 요청 경로는 실제 API 호출 비율과 무관하게 모든 라우트와 404/405를 고르게 섞는다.
+ *
+ * 실행: ./gradlew routingBenchmark
+ */
+public class RoutingBenchmark {
+    private static final int ROUNDS = 10;
+    private static final int ITERATIONS = 200_000;
+
+    private static final String[][] REQUESTS = {
+            {"GET", "/health"},
+            {"GET", "/auth/github"},
+            {"POST", "/auth/login"},
+            {"GET", "/repositories"},
+            {"GET", "/repositories/octocat/Hello-World/commits"},
+            {"GET", "/organizations"},
+            {"GET", "/organizations/tally-lab/stats"},
+            {"GET", "/organizations/tally-lab/repositories"},
+            {"POST", "/analysis/analyze"},
+            {"GET", "/analysis/octocat/Hello-World"},
+            {"POST", "/reports/pdf"},
+            {"POST", "/ai/analyze"},
+            {"GET", "/reports/pdf"},
+            {"GET", "/unknown/path"},
+    };
+
+    private static volatile int sink;
+
+    public static void main(String[] args) {
+        Router<Integer> router = createRouter();
+
+        System.out.printf("Routing benchmark (%d requests x %d iterations, %d rounds)%n",
+                REQUESTS.length, ITERATIONS, ROUNDS);
+        System.out.printf("%-8s %12s %12s%n", "router", "p50 ns/req", "min ns/req");
+
+        // 워밍업 (JIT)
+        for (int i = 0; i < 3; i++) {
+            runLegacy();
+            runTrie(router);
+        }
+
+        List<Double> legacy = new ArrayList<>();
+        List<Double> trie = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            legacy.add(runLegacy());
+            trie.add(runTrie(router));
+        }
+        print("legacy", legacy);
+        print("trie", trie);
+    }
+
+    private static double runLegacy() {
+        long startedAt = System.nanoTime();
+        int hash = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String[] request : REQUESTS) {
+                hash += legacyRoute(request[0], request[1]);
+            }
+        }
+        sink = hash;
+        return (System.nanoTime() - startedAt) / (double) (ITERATIONS * REQUESTS.length);
+    }
+
+    private static double runTrie(Router<Integer> router) {
+        long startedAt = System.nanoTime();
+        int hash = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (String[] request : REQUESTS) {
+                Router.Match<Integer> match = router.match(request[0], request[1]);
+                hash += match.getStatus() == Router.Status.FOUND
+                        ? match.getHandler() + match.getPathVariables().size()
+                        : match.getStatus().ordinal();
+            }
+        }
+        sink = hash;
+        return (System.nanoTime() - startedAt) / (double) (ITERATIONS * REQUESTS.length);
+    }
+
+    private static Router<Integer> createRouter() {
+        return Router.<Integer>builder()
+                .get("/", 1)
+                .get("/health", 1)
+                .get("/auth/github", 2)
+                .get("/auth/callback", 3)
+                .post("/auth/login", 4)
+                .get("/repositories", 5)
+                .get("/repositories/{owner}/{repo}/commits", 6)
+                .get("/organizations", 7)
+                .get("/organizations/{org}/stats", 8)
+                .get("/organizations/{org}/repositories", 9)
+                .post("/analysis/analyze", 10)
+                .get("/analysis/{owner}/{repo}", 11)
+                .post("/reports/markdown", 12)
+                .post("/reports/html", 13)
+                .post("/reports/pdf", 14)
+                .post("/ai/analyze", 15)
+                .build();
+    }
+
+    /**
+     * 기존 TallyLambdaHandler.route 분기 구조 (핸들러 번호 + 추출한 경로 변수 수, 404는 0)
+     */
+    private static int legacyRoute(String method, String path) {
+        if (path.equals("/") || path.equals("/health")) {
+            return 1;
+        }
+        if (path.startsWith("/auth")) {
+            if (path.equals("/auth/github") && "GET".equals(method)) {
+                return 2;
+            }
+            if (path.equals("/auth/callback") && "GET".equals(method)) {
+                return 3;
+            }
+            if (path.equals("/auth/login") && "POST".equals(method)) {
+                return 4;
+            }
+            return 0;
+        }
+        if (path.startsWith("/repositories")) {
+            if (path.equals("/repositories") && "GET".equals(method)) {
+                return 5;
+            }
+            if (path.matches("/repositories/[^/]+/[^/]+/commits") && "GET".equals(method)) {
+                String[] parts = path.split("/");
+                return 6 + bind("owner", parts[2], "repo", parts[3]);
+            }
+            return 0;
+        }
+        if (path.startsWith("/organizations")) {
+            if (path.equals("/organizations") && "GET".equals(method)) {
+                return 7;
+            }
+            if (path.matches("/organizations/[^/]+/stats") && "GET".equals(method)) {
+                String[] parts = path.split("/");
+                return 8 + bind("org", parts[2]);
+            }
+            if (path.matches("/organizations/[^/]+/repositories") && "GET".equals(method)) {
+                String[] parts = path.split("/");
+                return 9 + bind("org", parts[2]);
+            }
+            return 0;
+        }
+        if (path.startsWith("/analysis")) {
+            if (path.equals("/analysis/analyze") && "POST".equals(method)) {
+                return 10;
+            }
+            if (path.matches("/analysis/[^/]+/[^/]+") && "GET".equals(method)) {
+                String[] parts = path.split("/");
+                return 11 + bind("owner", parts[2], "repo", parts[3]);
+            }
+            return 0;
+        }
+        if (path.startsWith("/reports")) {
+            if ("POST".equals(method)) {
+                if (path.equals("/reports/markdown")) {
+                    return 12;
+                }
+                if (path.equals("/reports/html")) {
+                    return 13;
+                }
+                if (path.equals("/reports/pdf")) {
+                    return 14;
+                }
+            }
+            return 0;
+        }
+        if (path.startsWith("/ai")) {
+            return path.equals("/ai/analyze") && "POST".equals(method) ? 15 : 0;
+        }
+        return 0;
+    }
+
+    // 트라이와 같은 형태(이름 -> 값 맵)로 경로 변수 바인딩
+    private static int bind(String... namesAndValues) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            variables.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return variables.size();
+    }
+
+    private static void print(String name, List<Double> samples) {
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        System.out.printf("%-8s %12.1f %12.1f%n", name, sorted.get(sorted.size() / 2), sorted.get(0));
+    }
+}
@@ -0,0 +1,10 @@
+package com.tally.lambda;
+
+/**
+ * 요청 값이 잘못됨 (dispatch에서 400으로 변환, 메시지는 그대로 응답에 포함)
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,100 @@
+package com.tally.lambda;
+
+import com.tally.domain.GitHubRepository;
+import com.tally.domain.Organization;
+import com.tally.service.GitHubService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * 웜 캐시를 거치는 GitHubService (Lambda 전용)
+ *
+ * 레포/조직 목록과 브랜치 HEAD는 토큰별로 짧은 TTL 동안 재사용한다.
+ * 조회 실패와 구분할 수 없는 빈 결과는 캐시하지 않는다.
+ */
+public class CachingGitHubService extends GitHubService {
+    // 레포/조직 목록은 자주 바뀌지 않으므로 5분
+    private static final long LIST_TTL_MS = 5 * 60_000;
+    // 브랜치 HEAD는 분석 결과 캐시의 무효화 기준이므로 짧게
+    private static final long BRANCH_HEADS_TTL_MS = 30_000;
+
+    // 힙 점유 추정치 (항목당)
+    private static final long REPOSITORY_BYTES = 2_048;
+    private static final long ORGANIZATION_BYTES = 512;
+    private static final long BRANCH_BYTES = 160;
+
+    private final WarmCache cache;
+
+    public CachingGitHubService(WarmCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public List<GitHubRepository> getUserRepositories(String token) {
+        return cachedList("repos:" + WarmCache.scope(token), REPOSITORY_BYTES,
+                () -> super.getUserRepositories(token));
+    }
+
+    @Override
+    public List<Organization> getUserOrganizations(String token) {
+        return cachedList("orgs:" + WarmCache.scope(token), ORGANIZATION_BYTES,
+                () -> super.getUserOrganizations(token));
+    }
+
+    @Override
+    public List<Organization> getOrganizationsFromRepositories(String token) {
+        return cachedList("repo-orgs:" + WarmCache.scope(token), ORGANIZATION_BYTES,
+                () -> super.getOrganizationsFromRepositories(token));
+    }
+
+    @Override
+    public List<GitHubRepository> getOrganizationRepositories(String token, String org) {
+        return cachedList("org-repos:" + WarmCache.scope(token) + ":" + org.toLowerCase(), REPOSITORY_BYTES,
+                () -> super.getOrganizationRepositories(token, org));
+    }
+
+    @Override
+    public List<GitHubRepository> getAllRepositories(String token) {
+        return cachedList("all-repos:" + WarmCache.scope(token), REPOSITORY_BYTES,
+                () -> super.getAllRepositories(token));
+    }
+
+    @Override
+    public List<String> getRepositoryBranches(String token, String owner, String repo) {
+        Map<String, String> heads = getBranchHeads(token, owner, repo);
+        return heads != null ? new ArrayList<>(heads.keySet()) : super.getRepositoryBranches(token, owner, repo);
+    }
+
+    @Override
+    public Map<String, String> getBranchHeads(String token, String owner, String repo) {
+        String key = "heads:" + WarmCache.scope(token) + ":" + (owner + "/" + repo).toLowerCase();
+        Map<String, String> cached = cache.get(key);
+        if (cached != null) {
+            return new TreeMap<>(cached);
+        }
+
+        Map<String, String> heads = super.getBranchHeads(token, owner, repo);
+        if (heads != null && !heads.isEmpty()) {
+            cache.put(key, new TreeMap<>(heads), BRANCH_HEADS_TTL_MS, BRANCH_BYTES * heads.size());
+        }
+        return heads;
+    }
+
+    // 호출하는 쪽이 목록을 수정해도 캐시에 영향이 없도록 복사본 반환
+    private <T> List<T> cachedList(String key, long bytesPerItem, Supplier<List<T>> loader) {
+        List<T> cached = cache.get(key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+
+        List<T> loaded = loader.get();
+        if (loaded != null && !loaded.isEmpty()) {
+            cache.put(key, new ArrayList<>(loaded), LIST_TTL_MS, bytesPerItem * loaded.size());
+        }
+        return loaded;
+    }
+}
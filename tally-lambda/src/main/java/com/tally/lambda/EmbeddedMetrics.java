@@ -0,0 +1,46 @@
+package com.tally.lambda;
+
+/**
+ * CloudWatch Embedded Metric Format(EMF) 로그 출력
+ * Lambda 표준 출력의 EMF JSON 한 줄은 CloudWatch가 지표로 추출하므로 별도 API 호출이 필요 없음
+ */
+public final class EmbeddedMetrics {
+    private static final String NAMESPACE = namespace();
+
+    private EmbeddedMetrics() {
+    }
+
+    /**
+     * 구성 요소 초기화 시간 (Namespace/Component 차원의 InitDuration, ms)
+     *
+     * @param phase "cold"(핸들러 생성자) 또는 "lazy"(첫 사용 시 생성)
+     */
+    public static void initDuration(String component, String phase, long millis) {
+        System.out.println("{\"_aws\":{\"Timestamp\":" + System.currentTimeMillis()
+                + ",\"CloudWatchMetrics\":[{\"Namespace\":\"" + NAMESPACE + "\""
+                + ",\"Dimensions\":[[\"Component\",\"Phase\"]]"
+                + ",\"Metrics\":[{\"Name\":\"InitDuration\",\"Unit\":\"Milliseconds\"}]}]}"
+                + ",\"Component\":\"" + component + "\",\"Phase\":\"" + phase + "\""
+                + ",\"InitDuration\":" + millis + "}");
+    }
+
+    /**
+     * 응답 크기 (Namespace/Encoding 차원의 ResponseBodyBytes, ResponseWireBytes)
+     *
+     * @param encoding "gzip" 또는 "identity"
+     */
+    public static void responseBytes(String encoding, long bodyBytes, long wireBytes) {
+        System.out.println("{\"_aws\":{\"Timestamp\":" + System.currentTimeMillis()
+                + ",\"CloudWatchMetrics\":[{\"Namespace\":\"" + NAMESPACE + "\""
+                + ",\"Dimensions\":[[\"Encoding\"]]"
+                + ",\"Metrics\":[{\"Name\":\"ResponseBodyBytes\",\"Unit\":\"Bytes\"}"
+                + ",{\"Name\":\"ResponseWireBytes\",\"Unit\":\"Bytes\"}]}]}"
+                + ",\"Encoding\":\"" + encoding + "\""
+                + ",\"ResponseBodyBytes\":" + bodyBytes + ",\"ResponseWireBytes\":" + wireBytes + "}");
+    }
+
+    private static String namespace() {
+        String value = System.getenv("METRICS_NAMESPACE");
+        return value == null || value.isEmpty() ? "Tally" : value;
+    }
+}
@@ -0,0 +1,102 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 라우트 처리 결과
+ *
+ * 본문은 직렬화 전 객체로 보관해, 응답 방식(APIGatewayProxyResponseEvent 또는 출력 스트림)에 맞게 한 번만 직렬화한다.
+ * 본문 객체가 없으면 바이너리 본문(binaryBody), 그것도 없으면 문자열 본문(rawBody, null 가능)을 쓴다.
+ * 바이너리 본문은 응답을 기록할 때 출력 스트림에 바로 렌더링한다 (스트리밍 진입점에서는 Base64 인코더로 직접 기록).
+ * 헤더 맵은 공유 상수일 수 있으므로 수정하지 않고 withHeader로 복사본을 만든다.
+ */
+@Getter
+public final class LambdaResponse {
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final Object body;
+    private final String rawBody;
+    private final BodyWriter binaryBody;
+
+    private LambdaResponse(int statusCode, Map<String, String> headers, Object body, String rawBody, BodyWriter binaryBody) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body;
+        this.rawBody = rawBody;
+        this.binaryBody = binaryBody;
+    }
+
+    /**
+     * JSON으로 직렬화할 본문
+     */
+    public static LambdaResponse json(int statusCode, Map<String, String> headers, Object body) {
+        return new LambdaResponse(statusCode, headers, body, null, null);
+    }
+
+    /**
+     * 문자열 본문 (CORS preflight, 리다이렉트)
+     */
+    public static LambdaResponse raw(int statusCode, Map<String, String> headers, String rawBody) {
+        return new LambdaResponse(statusCode, headers, null, rawBody, null);
+    }
+
+    /**
+     * 바이너리 본문 (PDF 등 - Base64로 실어 보내고 API Gateway가 원본 바이트로 풀어 전달)
+     */
+    public static LambdaResponse binary(int statusCode, Map<String, String> headers, byte[] binaryBody) {
+        return new LambdaResponse(statusCode, headers, null, null, out -> out.write(binaryBody));
+    }
+
+    /**
+     * 응답 기록 시점에 렌더링하는 바이너리 본문 (렌더링 중 실패하면 500 응답으로 대체됨)
+     */
+    public static LambdaResponse binary(int statusCode, Map<String, String> headers, BodyWriter binaryBody) {
+        return new LambdaResponse(statusCode, headers, null, null, binaryBody);
+    }
+
+    /**
+     * 헤더 하나를 추가한 응답
+     */
+    public LambdaResponse withHeader(String name, String value) {
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.put(name, value);
+        return new LambdaResponse(statusCode, copy, body, rawBody, binaryBody);
+    }
+
+    /**
+     * RequestHandler용 응답 객체 (본문을 문자열로 직렬화)
+     */
+    public APIGatewayProxyResponseEvent toEvent(ObjectMapper mapper) throws IOException {
+        APIGatewayProxyResponseEvent event = new APIGatewayProxyResponseEvent();
+        event.setStatusCode(statusCode);
+        event.setHeaders(headers);
+        if (body != null) {
+            event.setBody(mapper.writeValueAsString(body));
+        } else if (binaryBody != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+            binaryBody.writeTo(out);
+            event.setBody(Base64.getEncoder().encodeToString(out.toByteArray()));
+            event.setIsBase64Encoded(true);
+        } else {
+            event.setBody(rawBody);
+        }
+        return event;
+    }
+
+    /**
+     * 바이너리 본문 렌더러
+     */
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,224 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lambda 사용자 정의 런타임(provided.al2023) 루프 - native-image 실행 파일(bootstrap)의 진입점
+ *
+ * Runtime API에서 다음 이벤트를 받아 TallyStreamHandler를 호출하고 결과를 돌려주는 일을 반복한다.
+ * java17 런타임에서는 Lambda가 이 루프를 대신 실행하므로 쓰이지 않는다.
+ * Runtime API에 연결할 수 없으면 (실행 환경 종료, 로컬 하네스 종료) 루프를 끝낸다.
+ */
+@Slf4j
+public final class LambdaRuntime {
+    private static final String API_VERSION = "2018-06-01";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    private final String baseUrl;
+    // 오류 보고 본문 직렬화용 (이벤트/응답은 TallyStreamHandler가 스트림으로 처리)
+    private final ObjectMapper errorMapper = JsonMapper.builder()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    public LambdaRuntime(String runtimeApi) {
+        this.baseUrl = "http://" + runtimeApi + "/" + API_VERSION;
+    }
+
+    public static void main(String[] args) {
+        String runtimeApi = System.getenv("AWS_LAMBDA_RUNTIME_API");
+        if (runtimeApi == null || runtimeApi.isEmpty()) {
+            System.err.println("AWS_LAMBDA_RUNTIME_API is not set");
+            System.exit(1);
+        }
+
+        LambdaRuntime runtime = new LambdaRuntime(runtimeApi);
+        TallyStreamHandler handler;
+        try {
+            handler = new TallyStreamHandler();
+        } catch (RuntimeException | Error e) {
+            runtime.postError("/runtime/init/error", e);
+            System.exit(1);
+            return;
+        }
+        runtime.loop(handler);
+    }
+
+    /**
+     * 다음 이벤트 대기 → 핸들러 호출 → 응답 전송 반복
+     */
+    public void loop(TallyStreamHandler handler) {
+        while (true) {
+            HttpResponse<byte[]> next;
+            try {
+                next = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/runtime/invocation/next")).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+            } catch (IOException e) {
+                log.info("Runtime API unavailable, stopping: {}", e.getMessage());
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            invoke(handler, next);
+        }
+    }
+
+    private void invoke(TallyStreamHandler handler, HttpResponse<byte[]> next) {
+        String requestId = next.headers().firstValue("Lambda-Runtime-Aws-Request-Id").orElse("");
+        next.headers().firstValue("Lambda-Runtime-Trace-Id")
+                .ifPresent(traceId -> System.setProperty("com.amazonaws.xray.traceHeader", traceId));
+        long deadlineMs = next.headers().firstValue("Lambda-Runtime-Deadline-Ms")
+                .map(Long::parseLong)
+                .orElse(Long.MAX_VALUE);
+        String functionArn = next.headers().firstValue("Lambda-Runtime-Invoked-Function-Arn").orElse(null);
+
+        try {
+            ByteArrayOutputStream result = new ByteArrayOutputStream(8 * 1024);
+            handler.handleRequest(new ByteArrayInputStream(next.body()), result,
+                    new RuntimeContext(requestId, deadlineMs, functionArn));
+            post("/runtime/invocation/" + requestId + "/response", result.toByteArray(), null);
+        } catch (Exception e) {
+            postError("/runtime/invocation/" + requestId + "/error", e);
+        }
+    }
+
+    private void postError(String path, Throwable error) {
+        log.error("Invocation failed", error);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("errorMessage", String.valueOf(error.getMessage()));
+        body.put("errorType", error.getClass().getName());
+        body.put("stackTrace", Arrays.stream(error.getStackTrace()).map(String::valueOf).toArray(String[]::new));
+        try {
+            post(path, errorMapper.writeValueAsBytes(body), error.getClass().getSimpleName());
+        } catch (IOException e) {
+            log.error("Failed to report error to runtime API: {}", e.getMessage());
+        }
+    }
+
+    private void post(String path, byte[] body, String errorType) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (errorType != null) {
+            request.header("Lambda-Runtime-Function-Error-Type", errorType);
+        }
+
+        try {
+            HttpResponse<String> response = client.send(request.build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() != 202) {
+                log.warn("Runtime API responded {} for {}: {}", response.statusCode(), path, response.body());
+            }
+        } catch (IOException e) {
+            log.error("Failed to post to runtime API {}: {}", path, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 호출별 컨텍스트 (함수 정보는 Lambda가 설정하는 환경변수에서 읽음)
+     */
+    private static final class RuntimeContext implements Context {
+        private static final LambdaLogger LOGGER = new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                System.out.println(message);
+            }
+
+            @Override
+            public void log(byte[] message) {
+                System.out.println(new String(message, StandardCharsets.UTF_8));
+            }
+        };
+
+        private final String requestId;
+        private final long deadlineMs;
+        private final String functionArn;
+
+        private RuntimeContext(String requestId, long deadlineMs, String functionArn) {
+            this.requestId = requestId;
+            this.deadlineMs = deadlineMs;
+            this.functionArn = functionArn;
+        }
+
+        @Override
+        public String getAwsRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+        }
+
+        @Override
+        public String getFunctionName() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return functionArn;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            long remaining = deadlineMs - System.currentTimeMillis();
+            return (int) Math.max(0, Math.min(remaining, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            String memory = System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE");
+            return memory != null ? Integer.parseInt(memory) : 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return LOGGER;
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.tally.lambda;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * API Gateway 프록시 응답 봉투 기록
+ *
+ * 본문 JSON은 문자열로 만들지 않고 JSON 문자열 이스케이프만 거쳐 body 필드 안에 바로 쓴다.
+ * gzip을 허용한 클라이언트에는 본문이 gzipMinBytes를 넘는 순간부터 gzip → Base64로 감싸 기록한다
+ * (작은 본문은 압축 헤더/Base64 오버헤드가 더 크므로 그대로 보냄).
+ * 압축 여부는 본문을 다 쓴 뒤에야 정해지므로 headers/isBase64Encoded는 body 뒤에 쓴다 (JSON 필드 순서는 무관).
+ * 바이너리 본문(PDF)은 이미 압축된 형식이므로 렌더러 출력을 Base64로만 인코딩해 바로 기록한다.
+ *
+ * 봉투는 내부 버퍼에 완성한 뒤에만 출력 스트림으로 복사한다. 본문 직렬화나 렌더링이 중간에 실패하면
+ * 출력 스트림에는 아무것도 쓰지 않고 예외를 던지므로, 호출자가 같은 스트림에 오류 응답을 쓸 수 있다.
+ * (Lambda 응답은 어차피 6MB 안에서 한 번에 전달되므로 버퍼 하나로 충분하다)
+ */
+public final class ProxyResponseWriter {
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper bodyMapper;
+    private final boolean gzipEnabled;
+    private final int gzipMinBytes;
+
+    public ProxyResponseWriter(ObjectMapper bodyMapper, boolean gzipEnabled, int gzipMinBytes) {
+        this.bodyMapper = bodyMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    /**
+     * 봉투를 완성한 뒤 out에 기록 (실패하면 out에 쓰지 않고 예외)
+     *
+     * @param acceptsGzip 클라이언트가 gzip 응답을 받을 수 있는지 (Accept-Encoding)
+     */
+    public Written write(LambdaResponse response, OutputStream out, boolean acceptsGzip) throws IOException {
+        ByteArrayOutputStream envelope = new ByteArrayOutputStream(BUFFER_SIZE);
+        Written written = writeEnvelope(response, envelope, acceptsGzip);
+        envelope.writeTo(out);
+        out.flush();
+        return written;
+    }
+
+    private Written writeEnvelope(LambdaResponse response, OutputStream out, boolean acceptsGzip) throws IOException {
+        CountingOutputStream wire = new CountingOutputStream(out);
+        JsonGenerator envelope = bodyMapper.getFactory().createGenerator(wire, JsonEncoding.UTF8);
+        envelope.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        envelope.writeStartObject();
+        envelope.writeNumberField("statusCode", response.getStatusCode());
+
+        long bodyBytes = 0;
+        boolean compressed = false;
+        boolean base64 = false;
+        if (response.getBody() != null) {
+            // 여는 따옴표까지 봉투 생성기로 쓰고 비운 뒤 본문을 같은 스트림에 직접 기록
+            envelope.writeFieldName("body");
+            envelope.writeRawValue("\"");
+            envelope.flush();
+
+            BodyOutputStream body = new BodyOutputStream(new NonClosingOutputStream(wire),
+                    gzipEnabled && acceptsGzip ? gzipMinBytes : -1);
+            try (body) {
+                bodyMapper.writeValue(body, response.getBody());
+            }
+            bodyBytes = body.count;
+            compressed = body.compressed;
+            base64 = compressed;
+            envelope.writeRaw('"');
+        } else if (response.getBinaryBody() != null) {
+            // 렌더러 → Base64 인코더 → 응답 스트림 (문서 전체 바이트/Base64 문자열을 따로 만들지 않음)
+            envelope.writeFieldName("body");
+            envelope.writeRawValue("\"");
+            envelope.flush();
+
+            OutputStream encoder = Base64.getEncoder().wrap(new NonClosingOutputStream(wire));
+            CountingOutputStream binary = new CountingOutputStream(new BufferedOutputStream(encoder, BUFFER_SIZE));
+            try (binary) {
+                response.getBinaryBody().writeTo(binary);
+            }
+            bodyBytes = binary.count;
+            base64 = true;
+            envelope.writeRaw('"');
+        } else if (response.getRawBody() != null) {
+            envelope.writeStringField("body", response.getRawBody());
+            bodyBytes = response.getRawBody().getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        envelope.writeBooleanField("isBase64Encoded", base64);
+        envelope.writeObjectFieldStart("headers");
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            envelope.writeStringField(header.getKey(), header.getValue());
+        }
+        if (compressed) {
+            envelope.writeStringField("Content-Encoding", "gzip");
+        }
+        if (gzipEnabled && response.getBody() != null) {
+            // 같은 URL이라도 Accept-Encoding에 따라 본문이 달라지므로 캐시 분리
+            envelope.writeStringField("Vary", "Accept-Encoding");
+        }
+        envelope.writeEndObject();
+
+        envelope.writeEndObject();
+        envelope.flush();
+        return new Written(bodyBytes, wire.count, compressed);
+    }
+
+    /**
+     * 기록 결과 (bodyBytes: 인코딩 전 본문 크기, wireBytes: 봉투 포함 전체 크기)
+     */
+    @Getter
+    public static final class Written {
+        private final long bodyBytes;
+        private final long wireBytes;
+        private final boolean compressed;
+
+        private Written(long bodyBytes, long wireBytes, boolean compressed) {
+            this.bodyBytes = bodyBytes;
+            this.wireBytes = wireBytes;
+            this.compressed = compressed;
+        }
+    }
+
+    /**
+     * JSON 본문 스트림: gzipMinBytes까지는 버퍼에 모으고, 넘으면 gzip+Base64로 전환
+     * (gzipMinBytes < 0이면 압축하지 않고 바로 이스케이프해 기록). 닫을 때 남은 버퍼를 비운다.
+     */
+    private static final class BodyOutputStream extends OutputStream {
+        private final OutputStream target;
+        private final int threshold;
+        private byte[] buffer;
+        private int buffered;
+        private OutputStream sink;
+        private long count;
+        private boolean compressed;
+
+        private BodyOutputStream(OutputStream target, int threshold) {
+            this.target = target;
+            this.threshold = threshold;
+            if (threshold < 0) {
+                sink = new JsonStringEscapingOutputStream(target);
+            } else {
+                buffer = new byte[Math.min(threshold, BUFFER_SIZE)];
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            if (sink != null) {
+                sink.write(b, off, len);
+                return;
+            }
+            if (buffered + len <= threshold) {
+                if (buffered + len > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.min(threshold, Math.max(buffer.length * 2, buffered + len)));
+                }
+                System.arraycopy(b, off, buffer, buffered, len);
+                buffered += len;
+                return;
+            }
+            sink = new GZIPOutputStream(Base64.getEncoder().wrap(target), BUFFER_SIZE);
+            compressed = true;
+            sink.write(buffer, 0, buffered);
+            buffer = null;
+            sink.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (sink == null) {
+                sink = new JsonStringEscapingOutputStream(target);
+                sink.write(buffer, 0, buffered);
+                buffer = null;
+            }
+            sink.close();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * 닫아도 하위 스트림은 비우기만 함 (본문 뒤에 봉투를 이어서 써야 하므로)
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * UTF-8 JSON 바이트를 JSON 문자열 값 안에 들어갈 수 있게 이스케이프
+     * (UTF-8 다중 바이트 문자의 바이트는 모두 0x80 이상이라 바이트 단위로 처리해도 안전)
+     */
+    private static final class JsonStringEscapingOutputStream extends FilterOutputStream {
+        private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+        private JsonStringEscapingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int start = off;
+            int end = off + len;
+            for (int i = off; i < end; i++) {
+                int c = b[i] & 0xFF;
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    out.write(b, start, i - start);
+                    writeEscape(c);
+                    start = i + 1;
+                }
+            }
+            out.write(b, start, end - start);
+        }
+
+        private void writeEscape(int c) throws IOException {
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c == '\n') {
+                out.write('\\');
+                out.write('n');
+            } else if (c == '\r') {
+                out.write('\\');
+                out.write('r');
+            } else if (c == '\t') {
+                out.write('\\');
+                out.write('t');
+            } else {
+                out.write(new byte[]{'\\', 'u', '0', '0', HEX[c >> 4], HEX[c & 0xF]});
+            }
+        }
+    }
+}
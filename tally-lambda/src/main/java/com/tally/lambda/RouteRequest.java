@@ -0,0 +1,144 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우팅된 요청 (경로 변수, 쿼리 파라미터, JSON 본문 바인딩)
+ * 본문은 처음 읽을 때 한 번만 파싱한다.
+ */
+public final class RouteRequest {
+    private final APIGatewayProxyRequestEvent event;
+    private final Map<String, String> pathVariables;
+    private final String token;
+    private final Context context;
+    private final ObjectMapper objectMapper;
+    private Map<String, Object> body;
+
+    public RouteRequest(APIGatewayProxyRequestEvent event, Map<String, String> pathVariables,
+                        String token, Context context, ObjectMapper objectMapper) {
+        this.event = event;
+        this.pathVariables = pathVariables;
+        this.token = token;
+        this.context = context;
+        this.objectMapper = objectMapper;
+    }
+
+    public String pathVariable(String name) {
+        return pathVariables.get(name);
+    }
+
+    /**
+     * 쿼리 파라미터 (없으면 null)
+     */
+    public String query(String name) {
+        Map<String, String> parameters = event.getQueryStringParameters();
+        return parameters != null ? parameters.get(name) : null;
+    }
+
+    /**
+     * 정수 쿼리 파라미터 (없으면 defaultValue, 정수가 아니면 파라미터 이름을 담은 BadRequestException - 400)
+     */
+    public int queryInt(String name, int defaultValue) {
+        String value = query(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid query parameter '" + name + "': expected an integer but was '" + value + "'", e);
+        }
+    }
+
+    /**
+     * 요청 헤더 (이름 대소문자 무시, 없으면 null)
+     */
+    public String header(String name) {
+        Map<String, String> headers = event.getHeaders();
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accept 헤더에 해당 미디어 타입이 명시되어 있는지 (와일드카드는 기존 JSON 응답을 유지하도록 제외)
+     */
+    public boolean accepts(String mediaType) {
+        String accept = header("Accept");
+        if (accept == null) {
+            return false;
+        }
+        for (String range : accept.split(",")) {
+            String type = range.split(";")[0].trim();
+            if (type.equalsIgnoreCase(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * JSON 본문의 최상위 필드 (본문이 없거나 필드가 없으면 null)
+     * 바이너리 미디어 타입이 설정된 API Gateway는 요청 본문을 Base64로 넘기므로 먼저 디코딩한다.
+     */
+    public String body(String name) throws IOException {
+        Object value = parsedBody().get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * JSON 본문의 최상위 배열 필드를 type 목록으로 변환 (본문이 없거나 필드가 없으면 빈 목록)
+     */
+    public <T> List<T> bodyList(String name, Class<T> type) throws IOException {
+        Object value = parsedBody().get(name);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.convertValue(value,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, type));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid body field: " + name, e);
+        }
+    }
+
+    private Map<String, Object> parsedBody() throws IOException {
+        if (body == null) {
+            String raw = event.getBody();
+            if (raw == null || raw.isBlank()) {
+                body = Collections.emptyMap();
+            } else if (Boolean.TRUE.equals(event.getIsBase64Encoded())) {
+                body = objectMapper.readValue(Base64.getMimeDecoder().decode(raw), Map.class);
+            } else {
+                body = objectMapper.readValue(raw, Map.class);
+            }
+        }
+        return body;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public Context context() {
+        return context;
+    }
+
+    public APIGatewayProxyRequestEvent event() {
+        return event;
+    }
+}
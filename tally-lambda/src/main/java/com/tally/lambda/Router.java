@@ -0,0 +1,231 @@
+package com.tally.lambda;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 미리 컴파일된 라우팅 트라이 (경로 세그먼트 단위)
+ *
+ * 요청마다 정규식을 컴파일하거나 경로를 다시 나누지 않고, 경로를 한 번 훑으며 노드를 따라가 경로 변수({name})를 모은다.
+ * 같은 위치에서는 고정 세그먼트가 변수보다 우선하고, 고정 세그먼트 쪽에 맞는 경로가 없을 때만 변수 쪽을 시도한다.
+ * 경로는 있지만 메서드가 없으면 405(허용 메서드 포함), 경로 자체가 없으면 404로 구분한다.
+ * 빈 세그먼트(중복/끝 슬래시)는 무시한다.
+ *
+ * @param <H> 라우트 핸들러 타입
+ */
+public final class Router<H> {
+
+    public enum Status {
+        FOUND, METHOD_NOT_ALLOWED, NOT_FOUND
+    }
+
+    private final Node<H> root;
+    private final int maxVariables;
+
+    private Router(Node<H> root, int maxVariables) {
+        this.root = root;
+        this.maxVariables = maxVariables;
+    }
+
+    public static <H> Builder<H> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 메서드와 경로로 라우트 조회
+     */
+    public Match<H> match(String method, String path) {
+        if (path == null) {
+            return Match.notFound();
+        }
+
+        String[] values = maxVariables > 0 ? new String[maxVariables] : null;
+        Node<H> node = find(root, path, skipSlashes(path, 0), values, 0);
+        if (node == null) {
+            return Match.notFound();
+        }
+
+        Route<H> route = node.routes.get(method);
+        if (route == null) {
+            return new Match<>(Status.METHOD_NOT_ALLOWED, null, Collections.emptyMap(), node.allow);
+        }
+        return new Match<>(Status.FOUND, route.handler, route.bind(values), node.allow);
+    }
+
+    // start: 현재 세그먼트 시작 위치, depth: 지금까지 모은 경로 변수 수
+    private static <H> Node<H> find(Node<H> node, String path, int start, String[] values, int depth) {
+        if (start >= path.length()) {
+            return node.routes.isEmpty() ? null : node;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = skipSlashes(path, end);
+
+        Node<H> literal = node.literal(path, start, end - start);
+        if (literal != null) {
+            Node<H> found = find(literal, path, next, values, depth);
+            if (found != null) {
+                return found;
+            }
+        }
+
+        if (node.variable != null) {
+            Node<H> found = find(node.variable, path, next, values, depth + 1);
+            if (found != null) {
+                values[depth] = path.substring(start, end);
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static int skipSlashes(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 조회 결과 (경로 변수는 FOUND일 때만, 허용 메서드는 경로가 있을 때만 채워짐)
+     */
+    @Getter
+    public static final class Match<H> {
+        private static final Match<?> NOT_FOUND = new Match<>(Status.NOT_FOUND, null, Collections.emptyMap(), null);
+
+        private final Status status;
+        private final H handler;
+        private final Map<String, String> pathVariables;
+        // Allow 헤더 값 (예: "GET, POST")
+        private final String allowedMethods;
+
+        private Match(Status status, H handler, Map<String, String> pathVariables, String allowedMethods) {
+            this.status = status;
+            this.handler = handler;
+            this.pathVariables = pathVariables;
+            this.allowedMethods = allowedMethods;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <H> Match<H> notFound() {
+            return (Match<H>) NOT_FOUND;
+        }
+    }
+
+    public static final class Builder<H> {
+        private final Node<H> root = new Node<>();
+        private int maxVariables;
+
+        private Builder() {
+        }
+
+        public Builder<H> get(String pattern, H handler) {
+            return route("GET", pattern, handler);
+        }
+
+        public Builder<H> post(String pattern, H handler) {
+            return route("POST", pattern, handler);
+        }
+
+        /**
+         * 라우트 등록 (pattern 예: /organizations/{org}/stats)
+         */
+        public Builder<H> route(String method, String pattern, H handler) {
+            Node<H> node = root;
+            String[] names = new String[0];
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.startsWith("{") && segment.endsWith("}")) {
+                    if (node.variable == null) {
+                        node.variable = new Node<>();
+                    }
+                    node = node.variable;
+                    names = Arrays.copyOf(names, names.length + 1);
+                    names[names.length - 1] = segment.substring(1, segment.length() - 1);
+                } else {
+                    node = node.addLiteral(segment);
+                }
+            }
+
+            if (node.routes.containsKey(method)) {
+                throw new IllegalStateException("Duplicate route: " + method + " " + pattern);
+            }
+            node.routes.put(method, new Route<>(handler, names));
+            node.allow = String.join(", ", new TreeMap<>(node.routes).keySet());
+            maxVariables = Math.max(maxVariables, names.length);
+            return this;
+        }
+
+        public Router<H> build() {
+            return new Router<>(root, maxVariables);
+        }
+    }
+
+    private static final class Route<H> {
+        private final H handler;
+        private final String[] variableNames;
+
+        private Route(H handler, String[] variableNames) {
+            this.handler = handler;
+            this.variableNames = variableNames;
+        }
+
+        private Map<String, String> bind(String[] values) {
+            if (variableNames.length == 0) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> variables = new LinkedHashMap<>(variableNames.length * 2);
+            for (int i = 0; i < variableNames.length; i++) {
+                variables.put(variableNames[i], values[i]);
+            }
+            return variables;
+        }
+    }
+
+    // 고정 세그먼트 자식은 몇 개뿐이므로 배열에서 regionMatches로 찾음 (세그먼트 문자열을 만들지 않음)
+    private static final class Node<H> {
+        private String[] literalNames = new String[0];
+        private Node<H>[] literalNodes = newNodes(0);
+        private Node<H> variable;
+        private final Map<String, Route<H>> routes = new LinkedHashMap<>(4);
+        private String allow;
+
+        private Node<H> literal(String path, int offset, int length) {
+            for (int i = 0; i < literalNames.length; i++) {
+                String name = literalNames[i];
+                if (name.length() == length && path.regionMatches(offset, name, 0, length)) {
+                    return literalNodes[i];
+                }
+            }
+            return null;
+        }
+
+        private Node<H> addLiteral(String segment) {
+            Node<H> existing = literal(segment, 0, segment.length());
+            if (existing != null) {
+                return existing;
+            }
+            Node<H> child = new Node<>();
+            literalNames = Arrays.copyOf(literalNames, literalNames.length + 1);
+            literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + 1);
+            literalNames[literalNames.length - 1] = segment;
+            literalNodes[literalNodes.length - 1] = child;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <H> Node<H>[] newNodes(int size) {
+            return (Node<H>[]) new Node[size];
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.tally.lambda;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tally.domain.*;
+import com.tally.dto.CommitSummary;
+import com.tally.dto.IssueSummary;
+import com.tally.dto.PullRequestSummary;
+import com.tally.service.AIAnalysisService;
+import com.tally.service.GitHubService;
+import com.tally.service.PDFReportService;
+import com.tally.util.GitHubJson;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * SnapStart(CRaC) 예열 훅
+ *
+ * 스냅샷 전에 합성 응답으로 첫 요청이 거치는 경로(Jackson 직렬화/역직렬화, 스트리밍 파서, OpenPDF,
+ * Bedrock 요청 빌드)를 한 번씩 실행해 클래스 로딩과 초기화를 스냅샷에 포함시키고,
+ * 복원 후에는 GitHub 연결을 새로 맺는다 (스냅샷 이전 keep-alive 연결은 만료되어 재사용되지 않음).
+ */
+@Slf4j
+public class SnapStartPriming implements Resource {
+    private static final String PRIMING_DIR = "/priming/";
+
+    private final ObjectMapper responseMapper;
+    private final GitHubService gitHubService;
+    private final Supplier<PDFReportService> pdfService;
+    private final Supplier<AIAnalysisService> aiService;
+    private final boolean primeConnections;
+
+    /**
+     * PDF/AI 서비스는 지연 생성되므로 Supplier로 받아 스냅샷 전에만 생성 (스냅샷에 포함)
+     *
+     * @param primeConnections true면 스냅샷 전과 복원 후에 GitHub API 연결까지 수립
+     */
+    public SnapStartPriming(ObjectMapper responseMapper, GitHubService gitHubService,
+                            Supplier<PDFReportService> pdfService, Supplier<AIAnalysisService> aiService,
+                            boolean primeConnections) {
+        this.responseMapper = responseMapper;
+        this.gitHubService = gitHubService;
+        this.pdfService = pdfService;
+        this.aiService = aiService;
+        this.primeConnections = primeConnections;
+    }
+
+    /**
+     * CRaC 전역 컨텍스트에 등록 (컨텍스트는 약한 참조로 보관하므로 호출하는 쪽이 이 객체를 필드로 유지해야 함)
+     */
+    public void register() {
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) throws Exception {
+        long startedAt = System.currentTimeMillis();
+        try {
+            prime();
+            log.info("SnapStart priming finished in {}ms", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 예열 실패로 스냅샷 생성(배포)이 실패하지 않도록 로그만 남김
+            log.warn("SnapStart priming failed after {}ms: {}", System.currentTimeMillis() - startedAt, e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        if (primeConnections) {
+            long startedAt = System.currentTimeMillis();
+            boolean connected = gitHubService.warmUpConnection();
+            log.info("GitHub connection re-established after restore: {} ({}ms)",
+                    connected, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 합성 응답으로 첫 요청 경로 예열
+     */
+    public void prime() throws Exception {
+        // GitHub 응답 파싱 (슬림 DTO + 도메인 객체 + 스트리밍 파서)
+        byte[] commits = resource("commits.json");
+        byte[] commitDetail = resource("commit-detail.json");
+        byte[] repositories = resource("repositories.json");
+        byte[] pullRequests = resource("pull-requests.json");
+        byte[] issues = resource("issues.json");
+
+        gitHubService.warmUpParsers(commits, commitDetail);
+        GitHubJson.MAPPER.readValue(commits, CommitSummary[].class);
+        GitHubJson.MAPPER.readValue(repositories, GitHubRepository[].class);
+        GitHubJson.MAPPER.readValue(pullRequests, PullRequestSummary[].class);
+        GitHubJson.MAPPER.readValue(issues, IssueSummary[].class);
+
+        // 요청 본문 파싱, 응답 직렬화 (분석/조직 통계)
+        ContributionStats stats = sampleContributionStats();
+        responseMapper.readValue("{\"owner\":\"octocat\",\"repo\":\"Hello-World\",\"username\":\"octocat\"}", Map.class);
+        responseMapper.writeValueAsString(stats);
+        responseMapper.writeValueAsString(sampleOrganizationStats());
+        responseMapper.writeValueAsString(Map.of("error", "priming"));
+
+        // PDF (폰트/테이블), AI 요청 빌드, 웜 캐시 키 해시
+        pdfService.get().generateReport(stats);
+        aiService.get().warmUp(stats);
+        WarmCache.scope("priming");
+
+        if (primeConnections) {
+            gitHubService.warmUpConnection();
+        }
+    }
+
+    private static byte[] resource(String name) throws IOException {
+        try (InputStream in = SnapStartPriming.class.getResourceAsStream(PRIMING_DIR + name)) {
+            if (in == null) {
+                throw new IOException("Priming resource not found: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * 합성 분석 결과 (PR/Issue는 priming 리소스에서 파싱, 콜드 스타트 벤치마크와 공용)
+     */
+    public static ContributionStats sampleContributionStats() throws IOException {
+        List<PullRequest> pullRequests = List.of(
+                GitHubJson.MAPPER.readValue(resource("pull-requests.json"), PullRequest[].class));
+        List<Issue> issues = List.of(GitHubJson.MAPPER.readValue(resource("issues.json"), Issue[].class));
+
+        Map<String, ContributionStats.RoleStats> roles = new HashMap<>();
+        roles.put("backend", ContributionStats.RoleStats.builder()
+                .roleName("backend").commitCount(12).percentage(60.0)
+                .confidenceLow(45.0).confidenceHigh(73.0).lines(1200).linePercentage(70.0)
+                .build());
+        roles.put("frontend", ContributionStats.RoleStats.builder()
+                .roleName("frontend").commitCount(8).percentage(40.0)
+                .confidenceLow(27.0).confidenceHigh(55.0).lines(500).linePercentage(30.0)
+                .build());
+
+        Map<String, Integer> languages = new LinkedHashMap<>();
+        languages.put("Java", 1200);
+        languages.put("TypeScript", 500);
+
+        AnalysisCoverage coverage = new AnalysisCoverage();
+        coverage.addRepository("octocat/Hello-World");
+        coverage.addBranch("octocat/Hello-World", "main");
+        coverage.addCommits(40);
+        coverage.addAnalyzedCommitDetails(20);
+
+        return ContributionStats.builder()
+                .id("priming")
+                .userId("octocat")
+                .username("octocat")
+                .repositoryFullName("octocat/Hello-World")
+                .firstCommitDate("2024-01-02")
+                .lastCommitDate("2024-03-01")
+                .totalCommits(40)
+                .userCommits(20)
+                .commitPercentage(50.0)
+                .additions(1500)
+                .deletions(200)
+                .languageDistribution(languages)
+                .hourlyActivity(Map.of(9, 5, 14, 10, 21, 5))
+                .dailyActivity(Map.of("MONDAY", 8, "WEDNESDAY", 12))
+                .roleDistribution(roles)
+                .roleAnalysisExact(false)
+                .pullRequests(pullRequests)
+                .issues(issues)
+                .commitMessages(List.of("Add contribution analysis endpoint", "Fix frontend build"))
+                .analyzedAt(LocalDateTime.now())
+                .coverage(coverage)
+                .build();
+    }
+
+    private static OrganizationStats sampleOrganizationStats() {
+        return OrganizationStats.builder()
+                .organizationName("octocat")
+                .totalRepositories(1)
+                .totalCommits(40)
+                .userCommits(20)
+                .contributionPercentage(50.0)
+                .repositories(List.of(OrganizationStats.RepositoryContribution.builder()
+                        .name("Hello-World")
+                        .fullName("octocat/Hello-World")
+                        .totalCommits(40)
+                        .userCommits(20)
+                        .contributionPercentage(50.0)
+                        .build()))
+                .teamMembers(List.of(OrganizationStats.TeamMember.builder()
+                        .login("octocat")
+                        .commits(20)
+                        .build()))
+                .totalMembers(2)
+                .memberCommitPercentiles(Map.of("p50", 20, "p90", 30))
+                .coverage(new AnalysisCoverage())
+                .build();
+    }
+}
@@ -0,0 +1,531 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tally.domain.*;
+import com.tally.service.*;
+import com.tally.util.Deadline;
+import com.tally.util.Lazy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tally API Lambda Handler
+ * 단일 Lambda에서 모든 API 요청을 처리 (Proxy 방식)
+ */
+@Slf4j
+public class TallyLambdaHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    // API Gateway 통합 타임아웃 (Lambda 타임아웃보다 짧음)
+    private static final long API_GATEWAY_TIMEOUT_MS = 29_000;
+    // 응답 직렬화/전송을 위한 여유 시간
+    private static final long RESPONSE_MARGIN_MS = 3_000;
+    // AI 요약(Bedrock 호출)을 위해 남겨둘 시간
+    private static final long AI_RESERVE_MS = 8_000;
+
+    // 일괄 리포트 한도: API Gateway/Lambda 응답은 6MB(Base64 포함)이므로 ZIP 원본은 4.5MB까지 (Base64 후 6,000,000B)
+    // 대상 수도 PDF 크기와 29초 타임아웃에 맞춰 Spring(BatchReportService.MAX_TARGETS)보다 작게 제한
+    static final int MAX_BATCH_TARGETS = 20;
+    static final int MAX_BATCH_ZIP_BYTES = 4_500_000;
+
+    // 모든 응답에 공통인 헤더 (요청마다 새로 만들지 않음 - 추가 헤더는 LambdaResponse.withHeader로 복사)
+    private static final Map<String, String> CORS_HEADERS = Map.of(
+        "Content-Type", "application/json",
+        "Access-Control-Allow-Origin", "*",
+        "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
+        "Access-Control-Allow-Headers", "Content-Type, Authorization"
+    );
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+    private static final Map<String, String> PDF_HEADERS = Map.of(
+        "Content-Type", PDF_CONTENT_TYPE,
+        "Access-Control-Allow-Origin", "*",
+        "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
+        "Access-Control-Allow-Headers", "Content-Type, Authorization",
+        "Access-Control-Expose-Headers", "Content-Disposition"
+    );
+    private static final Map<String, String> ZIP_HEADERS = Map.of(
+        "Content-Type", "application/zip",
+        "Access-Control-Allow-Origin", "*",
+        "Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS",
+        "Access-Control-Allow-Headers", "Content-Type, Authorization",
+        "Access-Control-Expose-Headers", "Content-Disposition",
+        "Content-Disposition", "attachment; filename=\"contribution-reports.zip\""
+    );
+
+    private final ObjectMapper objectMapper;
+    private final GitHubService gitHubService;
+    private final AuthService authService;
+    private final ContributionAnalysisService analysisService;
+    private final OrganizationStatsService organizationStatsService;
+    private final ReportGenerationService reportService;
+    // Bedrock 클라이언트/폰트 초기화는 AI·PDF 요청에서만 필요하므로 첫 사용 시 생성
+    private final Lazy<AIAnalysisService> aiService;
+    private final Lazy<PDFReportService> pdfService;
+    private final Lazy<BatchReportService> batchReportService;
+    private final Router<Endpoint> router;
+    // CRaC 컨텍스트는 약한 참조로 보관하므로 핸들러가 강한 참조를 유지
+    private final SnapStartPriming priming;
+
+    public TallyLambdaHandler() {
+        long startedAt = System.currentTimeMillis();
+
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+
+        // 웜 컨테이너의 다음 호출에서 GitHub 조회 결과를 재사용
+        WarmCache warmCache = WarmCache.shared();
+        this.gitHubService = new CachingGitHubService(warmCache);
+        this.authService = new AuthService();
+        this.analysisService = new ContributionAnalysisService(
+            gitHubService, createCommitDetailCache(warmCache), new ContributionStatsCache(),
+            ContributionAnalysisService.DEFAULT_MARGIN_OF_ERROR, false);
+        this.organizationStatsService = new OrganizationStatsService(
+            gitHubService, orgStatsParallelism(), createSnapshotStore());
+        this.reportService = new ReportGenerationService(analysisService);
+        this.aiService = Lazy.of("AIAnalysisService", AIAnalysisService::new, TallyLambdaHandler::recordLazyInit);
+        this.pdfService = Lazy.of("PDFReportService", PDFReportService::new, TallyLambdaHandler::recordLazyInit);
+        this.batchReportService = Lazy.of("BatchReportService",
+            () -> new BatchReportService(analysisService, pdfService.get()), TallyLambdaHandler::recordLazyInit);
+        this.router = createRouter();
+
+        // SnapStart 스냅샷 전 예열, 복원 후 GitHub 연결 재수립
+        this.priming = new SnapStartPriming(objectMapper, gitHubService, pdfService, aiService,
+            !"false".equalsIgnoreCase(System.getenv("SNAPSTART_PRIME_CONNECTIONS")));
+        this.priming.register();
+
+        long initMillis = System.currentTimeMillis() - startedAt;
+        log.info("TallyLambdaHandler initialized in {}ms (AI/PDF services deferred)", initMillis);
+        EmbeddedMetrics.initDuration("TallyLambdaHandler", "cold", initMillis);
+    }
+
+    private static void recordLazyInit(String component, long millis) {
+        EmbeddedMetrics.initDuration(component, "lazy", millis);
+    }
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        LambdaResponse response = dispatch(input, context);
+        try {
+            return response.toEvent(objectMapper);
+        } catch (Exception e) {
+            context.getLogger().log("Error: " + e.getMessage());
+            APIGatewayProxyResponseEvent error = new APIGatewayProxyResponseEvent();
+            error.setStatusCode(500);
+            error.setHeaders(CORS_HEADERS);
+            error.setBody("{\"error\":\"Internal Server Error\"}");
+            return error;
+        }
+    }
+
+    /**
+     * 요청 처리 (본문은 직렬화하지 않은 채 반환 - RequestHandler/스트리밍 진입점 공용)
+     */
+    LambdaResponse dispatch(APIGatewayProxyRequestEvent input, Context context) {
+        String path = input.getPath();
+        String method = input.getHttpMethod();
+
+        context.getLogger().log("Request: " + method + " " + path);
+
+        try {
+            // CORS preflight
+            if ("OPTIONS".equals(method)) {
+                return buildCorsResponse(200, "");
+            }
+
+            // 라우팅 (경로 없음 404, 메서드 없음 405)
+            Router.Match<Endpoint> match = router.match(method, path);
+            if (match.getStatus() == Router.Status.NOT_FOUND) {
+                return buildErrorResponse(404, "Not Found: " + path);
+            }
+            if (match.getStatus() == Router.Status.METHOD_NOT_ALLOWED) {
+                return buildErrorResponse(405, "Method Not Allowed: " + method + " " + path)
+                    .withHeader("Allow", match.getAllowedMethods());
+            }
+
+            // 토큰 추출 (헬스체크/인증 외 모든 요청은 토큰 필요)
+            String token = extractToken(input);
+            Endpoint endpoint = match.getHandler();
+            if (endpoint.authenticated && (token == null || token.isEmpty())) {
+                return buildErrorResponse(401, "Unauthorized: Token required");
+            }
+
+            return endpoint.handler.handle(new RouteRequest(input, match.getPathVariables(), token, context, objectMapper));
+
+        } catch (BadRequestException e) {
+            return buildErrorResponse(400, e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Error: " + e.getMessage());
+            return buildErrorResponse(500, "Internal Server Error: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 라우트 테이블 (생성 시 한 번 구성)
+     */
+    private Router<Endpoint> createRouter() {
+        return Router.<Endpoint>builder()
+            // Health check
+            .get("/", open(request -> health()))
+            .get("/health", open(request -> health()))
+            // Auth
+            .get("/auth/github", open(request -> githubAuthUrl()))
+            .get("/auth/callback", open(this::authCallback))
+            .post("/auth/login", open(this::login))
+            // Repository
+            .get("/repositories", authenticated(this::listRepositories))
+            .get("/repositories/{owner}/{repo}/commits", authenticated(this::listCommits))
+            // Organization
+            .get("/organizations", authenticated(this::listOrganizations))
+            .get("/organizations/{org}/stats", authenticated(this::organizationStats))
+            .get("/organizations/{org}/repositories", authenticated(this::organizationRepositories))
+            // Analysis
+            .post("/analysis/analyze", authenticated(this::analyze))
+            .get("/analysis/{owner}/{repo}", authenticated(this::analyzeRepository))
+            // Report
+            .post("/reports/markdown", authenticated(this::markdownReport))
+            .post("/reports/html", authenticated(this::htmlReport))
+            .post("/reports/pdf", authenticated(this::pdfReport))
+            .post("/reports/batch", authenticated(this::batchReport))
+            // AI
+            .post("/ai/analyze", authenticated(this::aiAnalyze))
+            .build();
+    }
+
+    // ===== Health / Auth Handlers =====
+    private LambdaResponse health() {
+        return buildSuccessResponse(Map.of("status", "ok", "service", "Tally API"));
+    }
+
+    private LambdaResponse githubAuthUrl() {
+        String clientId = System.getenv("GITHUB_CLIENT_ID");
+        String redirectUri = System.getenv("GITHUB_REDIRECT_URI");
+        String authUrl = String.format(
+            "https://github.com/login/oauth/authorize?client_id=%s&redirect_uri=%s&scope=repo,user,read:org",
+            clientId, redirectUri
+        );
+        return buildSuccessResponse(Map.of("authUrl", authUrl));
+    }
+
+    private LambdaResponse authCallback(RouteRequest request) {
+        String code = request.query("code");
+        String accessToken = authService.getAccessToken(code);
+        User user = authService.getUserInfo(accessToken);
+
+        // 프론트엔드로 리다이렉트
+        String frontendUrl = System.getenv("FRONTEND_URL");
+        String redirectUrl = String.format("%s/auth/callback?accessToken=%s&userId=%s&username=%s",
+            frontendUrl, accessToken, user.getId(), user.getUsername());
+
+        return buildRedirectResponse(redirectUrl);
+    }
+
+    private LambdaResponse login(RouteRequest request) throws IOException {
+        String accessToken = request.body("accessToken");
+        User user = authService.getUserInfo(accessToken);
+        return buildSuccessResponse(Map.of(
+            "userId", user.getId(),
+            "username", user.getUsername(),
+            "avatarUrl", user.getAvatarUrl() != null ? user.getAvatarUrl() : ""
+        ));
+    }
+
+    // ===== Repository Handlers =====
+    private LambdaResponse listRepositories(RouteRequest request) {
+        List<GitHubRepository> repos = gitHubService.getAllRepositories(request.token());
+        return buildSuccessResponse(repos);
+    }
+
+    // GET /repositories/{owner}/{repo}/commits
+    private LambdaResponse listCommits(RouteRequest request) {
+        List<Commit> commits = gitHubService.getRepositoryCommits(
+            request.token(), request.pathVariable("owner"), request.pathVariable("repo"));
+        return buildSuccessResponse(commits);
+    }
+
+    // ===== Organization Handlers =====
+    private LambdaResponse listOrganizations(RouteRequest request) {
+        List<Organization> orgs = gitHubService.getUserOrganizations(request.token());
+        // API가 빈 결과를 반환하면 레포지토리에서 추출
+        if (orgs.isEmpty()) {
+            orgs = gitHubService.getOrganizationsFromRepositories(request.token());
+        }
+        return buildSuccessResponse(orgs);
+    }
+
+    // GET /organizations/{org}/stats?username=&top=
+    private LambdaResponse organizationStats(RouteRequest request) {
+        OrganizationStats stats = organizationStatsService.getOrganizationStats(
+            request.token(), request.pathVariable("org"), request.query("username"), request.queryInt("top", 0),
+            requestDeadline(request.context(), 0), null);
+        return buildSuccessResponse(stats);
+    }
+
+    // GET /organizations/{org}/repositories
+    private LambdaResponse organizationRepositories(RouteRequest request) {
+        List<GitHubRepository> repos = gitHubService.getOrganizationRepositories(
+            request.token(), request.pathVariable("org"));
+        return buildSuccessResponse(repos);
+    }
+
+    // ===== Analysis Handlers =====
+    // POST /analysis/analyze
+    private LambdaResponse analyze(RouteRequest request) throws IOException {
+        ContributionStats stats = analysisService.analyzeContribution(
+            request.token(), request.body("owner"), request.body("repo"), request.body("username"),
+            requestDeadline(request.context(), 0));
+        return buildSuccessResponse(stats);
+    }
+
+    // GET /analysis/{owner}/{repo}?username=
+    private LambdaResponse analyzeRepository(RouteRequest request) {
+        ContributionStats stats = analysisService.analyzeContribution(
+            request.token(), request.pathVariable("owner"), request.pathVariable("repo"), request.query("username"),
+            requestDeadline(request.context(), 0));
+        return buildSuccessResponse(stats);
+    }
+
+    // ===== Report Handlers =====
+    private LambdaResponse markdownReport(RouteRequest request) throws IOException {
+        Report report = reportService.generateMarkdownReport(
+            request.token(), request.body("owner"), request.body("repo"), request.body("username"));
+        return buildSuccessResponse(report);
+    }
+
+    private LambdaResponse htmlReport(RouteRequest request) throws IOException {
+        Report report = reportService.generateHtmlReport(
+            request.token(), request.body("owner"), request.body("repo"), request.body("username"));
+        return buildSuccessResponse(report);
+    }
+
+    private LambdaResponse pdfReport(RouteRequest request) throws IOException {
+        String repo = request.body("repo");
+        // 기존 분석 수행
+        ContributionStats stats = analysisService.analyzeContribution(
+            request.token(), request.body("owner"), repo, request.body("username"),
+            requestDeadline(request.context(), 0));
+        String filename = repo + "-contribution-report.pdf";
+
+        // Accept: application/pdf면 바이너리로 응답 (JSON 안의 Base64보다 약 25% 작음)
+        // 응답 스트림에 직접 렌더링하므로 PDF 바이트/Base64 문자열/JSON 문자열 사본을 만들지 않음
+        if (request.accepts(PDF_CONTENT_TYPE)) {
+            PDFReportService pdf = pdfService.get();
+            return LambdaResponse.binary(200, PDF_HEADERS, out -> pdf.writeReport(stats, out))
+                .withHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+        }
+
+        // PDF 생성 (Base64 인코딩)
+        String pdfBase64 = pdfService.get().generateReport(stats);
+        return buildSuccessResponse(Map.of(
+            "content", pdfBase64,
+            "filename", filename,
+            "contentType", PDF_CONTENT_TYPE,
+            "encoding", "base64"
+        ));
+    }
+
+    // POST /reports/batch {"targets": [{"owner", "repo", "username"}, ...]}
+    // API Gateway는 응답을 다 모은 뒤 전달하므로 스트리밍 이점이 없고, 200을 보낸 뒤 렌더링이 실패하면 잘린 응답(502)이 된다.
+    // 그래서 Lambda에서는 ZIP 전체를 먼저 만들고 나서 응답한다: 대상 초과는 400, ZIP이 한도를 넘으면 413, 렌더링 실패는 500.
+    private LambdaResponse batchReport(RouteRequest request) throws IOException {
+        List<ReportTarget> targets = request.bodyList("targets", ReportTarget.class);
+        try {
+            BatchReportService.validate(targets);
+        } catch (IllegalArgumentException e) {
+            return buildErrorResponse(400, e.getMessage());
+        }
+        if (targets.size() > MAX_BATCH_TARGETS) {
+            return buildErrorResponse(400, "Lambda에서 리포트 대상은 최대 " + MAX_BATCH_TARGETS + "개입니다");
+        }
+
+        BoundedOutputStream zip = new BoundedOutputStream(MAX_BATCH_ZIP_BYTES);
+        try {
+            batchReportService.get().writeZip(request.token(), targets, requestDeadline(request.context(), 0), zip);
+        } catch (PayloadTooLargeException e) {
+            return buildErrorResponse(413, "일괄 리포트 ZIP이 Lambda 응답 한도(" + MAX_BATCH_ZIP_BYTES
+                + "B)를 넘습니다. 대상을 나눠 요청하세요");
+        }
+        return LambdaResponse.binary(200, ZIP_HEADERS, zip.toByteArray());
+    }
+
+    // ===== AI Handlers =====
+    private LambdaResponse aiAnalyze(RouteRequest request) throws IOException {
+        // 기존 분석 수행 (AI 호출 시간을 남겨둠)
+        ContributionStats stats = analysisService.analyzeContribution(
+            request.token(), request.body("owner"), request.body("repo"), request.body("username"),
+            requestDeadline(request.context(), AI_RESERVE_MS));
+
+        // AI 요약 생성
+        String aiSummary = aiService.get().generateSummary(stats);
+
+        return buildSuccessResponse(Map.of(
+            "stats", stats,
+            "aiSummary", aiSummary
+        ));
+    }
+
+    /**
+     * 라우트 핸들러
+     */
+    @FunctionalInterface
+    private interface RouteHandler {
+        LambdaResponse handle(RouteRequest request) throws Exception;
+    }
+
+    /**
+     * 라우트 항목 (authenticated면 토큰 없는 요청은 401)
+     */
+    private static final class Endpoint {
+        private final RouteHandler handler;
+        private final boolean authenticated;
+
+        private Endpoint(RouteHandler handler, boolean authenticated) {
+            this.handler = handler;
+            this.authenticated = authenticated;
+        }
+    }
+
+    /**
+     * 한도를 넘으면 PayloadTooLargeException을 던지는 메모리 버퍼 (일괄 리포트 ZIP)
+     */
+    private static final class BoundedOutputStream extends ByteArrayOutputStream {
+        private final int maxBytes;
+
+        private BoundedOutputStream(int maxBytes) {
+            super(64 * 1024);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            ensureCapacity(1);
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            ensureCapacity(len);
+            super.write(b, off, len);
+        }
+
+        private void ensureCapacity(int len) {
+            if (count + len > maxBytes) {
+                throw new PayloadTooLargeException();
+            }
+        }
+    }
+
+    private static final class PayloadTooLargeException extends RuntimeException {
+        private PayloadTooLargeException() {
+            super("Response payload too large", null, false, false);
+        }
+    }
+
+    private static Endpoint open(RouteHandler handler) {
+        return new Endpoint(handler, false);
+    }
+
+    private static Endpoint authenticated(RouteHandler handler) {
+        return new Endpoint(handler, true);
+    }
+
+    // ===== Helper Methods =====
+
+    /**
+     * 요청 마감 시각 계산
+     * Lambda 남은 시간과 API Gateway 타임아웃 중 짧은 쪽에서 응답 여유 시간과 reserveMillis를 뺀 값
+     */
+    private Deadline requestDeadline(Context context, long reserveMillis) {
+        long remaining = context != null ? context.getRemainingTimeInMillis() : API_GATEWAY_TIMEOUT_MS;
+        long budget = Math.min(remaining, API_GATEWAY_TIMEOUT_MS) - RESPONSE_MARGIN_MS - reserveMillis;
+        return Deadline.after(budget);
+    }
+
+    private String extractToken(APIGatewayProxyRequestEvent input) {
+        Map<String, String> headers = input.getHeaders();
+        if (headers == null) return null;
+
+        String auth = headers.get("Authorization");
+        if (auth == null) {
+            auth = headers.get("authorization");
+        }
+
+        if (auth != null && auth.startsWith("Bearer ")) {
+            return auth.substring(7);
+        }
+        return auth;
+    }
+
+    private LambdaResponse buildSuccessResponse(Object body) {
+        return LambdaResponse.json(200, CORS_HEADERS, body);
+    }
+
+    /**
+     * 오류 응답 {"error": message} (스트리밍 진입점의 500 대체 응답에도 사용)
+     */
+    LambdaResponse buildErrorResponse(int statusCode, String message) {
+        return LambdaResponse.json(statusCode, CORS_HEADERS, Map.of("error", message));
+    }
+
+    private LambdaResponse buildRedirectResponse(String url) {
+        return LambdaResponse.raw(302, CORS_HEADERS, null).withHeader("Location", url);
+    }
+
+    private LambdaResponse buildCorsResponse(int statusCode, String body) {
+        return LambdaResponse.raw(statusCode, CORS_HEADERS, body);
+    }
+
+    /**
+     * 응답 본문 직렬화용 매퍼 (스트리밍 진입점과 공유)
+     */
+    ObjectMapper responseMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 조직 통계 동시 처리 레포지토리 수 (ORG_STATS_PARALLELISM 환경변수)
+     */
+    private static int orgStatsParallelism() {
+        String value = System.getenv("ORG_STATS_PARALLELISM");
+        if (value == null || value.isEmpty()) {
+            return OrganizationStatsService.DEFAULT_PARALLELISM;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return OrganizationStatsService.DEFAULT_PARALLELISM;
+        }
+    }
+
+    /**
+     * 레포지토리 스냅샷 저장소 (REPO_SNAPSHOT_DIR, 기본 /tmp - 웜 컨테이너에서 재사용)
+     */
+    private static RepositorySnapshotStore createSnapshotStore() {
+        String dir = System.getenv("REPO_SNAPSHOT_DIR");
+        if (dir == null || dir.isEmpty()) {
+            dir = "/tmp/repo-snapshots";
+        }
+        return new RepositorySnapshotStore(dir, RepositorySnapshotStore.DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * 커밋 상세 캐시 (WARM_CACHE_PERSIST=false가 아니면 WARM_CACHE_DIR, 기본 /tmp/commit-details에도 저장)
+     */
+    private static CommitDetailCache createCommitDetailCache(WarmCache warmCache) {
+        if ("false".equalsIgnoreCase(System.getenv("WARM_CACHE_PERSIST"))) {
+            return new WarmCommitDetailCache(warmCache, null);
+        }
+        String dir = System.getenv("WARM_CACHE_DIR");
+        if (dir == null || dir.isEmpty()) {
+            dir = "/tmp/commit-details";
+        }
+        return new WarmCommitDetailCache(warmCache, dir);
+    }
+}
@@ -0,0 +1,126 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Tally API Lambda 스트리밍 진입점
+ *
+ * 런타임의 POJO 직렬화(APIGatewayProxyResponseEvent → 문자열 본문 → 다시 JSON)를 거치지 않고
+ * 라우트 결과 객체를 응답 스트림에 한 번에 기록한다. 라우팅과 처리는 TallyLambdaHandler를 그대로 쓴다.
+ *
+ * 클라이언트가 Accept-Encoding으로 gzip을 허용하고 JSON 본문이 RESPONSE_GZIP_MIN_BYTES(기본 1KB) 이상이면
+ * gzip+Base64로 보내고, API Gateway가 바이너리 미디어 타입 설정에 따라 원본 바이트로 풀어 전달한다.
+ * br은 JDK에 인코더가 없어 지원하지 않으며, br만 허용한 클라이언트에는 압축하지 않은 본문을 보낸다.
+ * RESPONSE_GZIP=false면 압축하지 않는다 (바이너리 미디어 타입이 없는 API Gateway에 배포할 때).
+ */
+public class TallyStreamHandler implements RequestStreamHandler {
+    private static final int DEFAULT_GZIP_MIN_BYTES = 1024;
+
+    private final TallyLambdaHandler handler;
+    private final ProxyResponseWriter writer;
+    // API Gateway 프록시 이벤트 역직렬화용 (응답 본문 매퍼와 별개)
+    private final ObjectMapper eventMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    public TallyStreamHandler() {
+        this(new TallyLambdaHandler());
+    }
+
+    public TallyStreamHandler(TallyLambdaHandler handler) {
+        this.handler = handler;
+        this.writer = new ProxyResponseWriter(handler.responseMapper(),
+                !"false".equalsIgnoreCase(System.getenv("RESPONSE_GZIP")), gzipMinBytes());
+    }
+
+    /**
+     * 이벤트 파싱, 라우팅, 본문 직렬화 중 어디서 실패해도 API Gateway에 유효한 500 봉투를 돌려준다.
+     * 응답 기록기는 봉투를 완성한 뒤에만 출력 스트림에 쓰므로, 실패 시 같은 스트림에 오류 응답을 써도 섞이지 않는다.
+     */
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+        LambdaResponse response;
+        ProxyResponseWriter.Written written;
+        try {
+            APIGatewayProxyRequestEvent event = eventMapper.readValue(input, APIGatewayProxyRequestEvent.class);
+            response = handler.dispatch(event, context);
+            written = writer.write(response, output, acceptsGzip(event.getHeaders()));
+        } catch (Exception e) {
+            context.getLogger().log("Error: " + e.getMessage());
+            response = handler.buildErrorResponse(500, "Internal Server Error");
+            written = writer.write(response, output, false);
+        }
+
+        String encoding = written.isCompressed() ? "gzip" : "identity";
+        context.getLogger().log("Response: " + response.getStatusCode() + " body=" + written.getBodyBytes()
+                + "B wire=" + written.getWireBytes() + "B (" + encoding + ")");
+        EmbeddedMetrics.responseBytes(encoding, written.getBodyBytes(), written.getWireBytes());
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 (헤더 이름은 대소문자 무시)
+     * gzip을 명시했거나 *로 허용했을 때 true, q=0이면 거부로 본다 (gzip 항목이 * 보다 우선).
+     */
+    static boolean acceptsGzip(Map<String, String> headers) {
+        if (headers == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!"Accept-Encoding".equalsIgnoreCase(header.getKey()) || header.getValue() == null) {
+                continue;
+            }
+            Boolean gzip = null;
+            Boolean wildcard = null;
+            for (String coding : header.getValue().split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim();
+                boolean accepted = !isZeroQuality(parts);
+                if ("gzip".equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                    gzip = accepted;
+                } else if ("*".equals(name)) {
+                    wildcard = accepted;
+                }
+            }
+            if (gzip != null) {
+                return gzip;
+            }
+            return Boolean.TRUE.equals(wildcard);
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().replace(" ", "");
+            if (parameter.matches("[qQ]=0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * gzip 적용 최소 본문 크기 (RESPONSE_GZIP_MIN_BYTES 환경변수)
+     */
+    private static int gzipMinBytes() {
+        String value = System.getenv("RESPONSE_GZIP_MIN_BYTES");
+        if (value == null || value.isEmpty()) {
+            return DEFAULT_GZIP_MIN_BYTES;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_GZIP_MIN_BYTES;
+        }
+    }
+}
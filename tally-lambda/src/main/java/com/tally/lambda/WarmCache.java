@@ -0,0 +1,170 @@
+package com.tally.lambda;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lambda 웜 컨테이너용 프로세스 전역 캐시
+ *
+ * 같은 컨테이너의 다음 호출에서 GitHub 조회 결과를 재사용한다.
+ * 항목마다 TTL과 추정 크기를 가지며, 추정 크기 합계가 최대 힙의 일정 비율을 넘으면 오래 쓰지 않은 항목부터 제거한다.
+ * 사용자 권한에 따라 결과가 달라지는 항목은 토큰 해시(scope)를 키에 넣고, 토큰 원문은 저장하지 않는다.
+ */
+@Slf4j
+public final class WarmCache {
+    public static final int DEFAULT_HEAP_PERCENT = 20;
+
+    // 실제 힙 사용량이 이 비율을 넘으면 추정 크기와 관계없이 절반을 비움
+    private static final double HEAP_PRESSURE_RATIO = 0.85;
+
+    private static final WarmCache SHARED = new WarmCache(heapPercent());
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long maxBytes;
+    private long estimatedBytes;
+    private long hits;
+    private long misses;
+
+    public WarmCache(int heapPercent) {
+        this.maxBytes = Runtime.getRuntime().maxMemory() / 100 * Math.max(1, Math.min(heapPercent, 90));
+    }
+
+    /**
+     * 컨테이너 전체에서 공유하는 인스턴스 (WARM_CACHE_HEAP_PERCENT 환경변수로 크기 조정)
+     */
+    public static WarmCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 토큰별 캐시 범위 (SHA-256 앞 16바이트 hex)
+     */
+    public static String scope(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 만료되지 않은 값 조회 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            remove(key);
+            misses++;
+            return null;
+        }
+        hits++;
+        return (T) entry.value;
+    }
+
+    public synchronized boolean contains(String key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.expiresAt >= System.currentTimeMillis();
+    }
+
+    /**
+     * @param ttlMillis      Long.MAX_VALUE면 만료 없음 (SHA로 식별되는 불변 데이터)
+     * @param estimatedBytes 힙 점유 추정치 (제거 기준)
+     */
+    public synchronized void put(String key, Object value, long ttlMillis, long estimatedBytes) {
+        if (estimatedBytes > maxBytes) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = ttlMillis == Long.MAX_VALUE ? Long.MAX_VALUE : now + ttlMillis;
+
+        remove(key);
+        entries.put(key, new Entry(value, expiresAt, estimatedBytes));
+        this.estimatedBytes += estimatedBytes;
+        evict();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            estimatedBytes -= removed.estimatedBytes;
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (estimatedBytes > maxBytes && iterator.hasNext()) {
+            estimatedBytes -= iterator.next().estimatedBytes;
+            iterator.remove();
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        if (used > runtime.maxMemory() * HEAP_PRESSURE_RATIO && !entries.isEmpty()) {
+            int target = entries.size() / 2;
+            iterator = entries.values().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                estimatedBytes -= iterator.next().estimatedBytes;
+                iterator.remove();
+            }
+            log.warn("Heap pressure ({} MB used), warm cache trimmed to {} entries",
+                    used / (1024 * 1024), entries.size());
+        }
+    }
+
+    private static int heapPercent() {
+        String value = System.getenv("WARM_CACHE_HEAP_PERCENT");
+        if (value == null || value.isEmpty()) {
+            return DEFAULT_HEAP_PERCENT;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return DEFAULT_HEAP_PERCENT;
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+        private final long estimatedBytes;
+
+        private Entry(Object value, long expiresAt, long estimatedBytes) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.tally.lambda;
+
+import com.tally.dto.CommitFileStats;
+import com.tally.service.CommitDetailCache;
+import com.tally.util.JsonFileUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 웜 캐시 + /tmp 디스크를 거치는 커밋 상세 캐시 (Lambda 전용)
+ *
+ * 커밋 상세는 SHA가 같으면 바뀌지 않으므로 만료 없이 보관하고, 디렉토리를 지정하면 파일로도 저장해
+ * 메모리에서 밀려났거나 SnapStart 복원 후에도 다시 조회하지 않는다.
+ * 커밋 목록을 사용자 토큰으로 먼저 조회해야 SHA를 알 수 있으므로 키는 토큰과 무관하게 레포/SHA만 사용한다.
+ *
+ * 역할 분석은 사용자 커밋 전체에 contains를 호출하므로, 디스크 저장 여부는 파일을 매번 확인하지 않고
+ * 레포지토리별 SHA 목록으로 판단한다. 목록은 레포지토리를 처음 조회할 때 디렉토리를 한 번 읽어 만들고
+ * (콜드 스타트 후 /tmp에 남은 파일 포함) 저장할 때마다 추가한다.
+ */
+@Slf4j
+public class WarmCommitDetailCache extends CommitDetailCache {
+    // 힙 점유 추정치 (커밋당 + 파일당)
+    private static final long COMMIT_BYTES = 256;
+    private static final long FILE_BYTES = 160;
+
+    private static final String FILE_SUFFIX = ".json";
+
+    private final WarmCache cache;
+    private final String directory;  // null이면 메모리에만 보관
+    // 레포지토리 디렉토리 이름 → 디스크에 저장된 파일 이름(SHA)
+    private final Map<String, Set<String>> storedFiles = new ConcurrentHashMap<>();
+
+    public WarmCommitDetailCache(WarmCache cache, String directory) {
+        super(0);
+        this.cache = cache;
+        this.directory = directory == null || directory.isEmpty() ? null : directory;
+    }
+
+    @Override
+    public CommitFileStats get(String owner, String repo, String sha) {
+        String key = key(owner, repo, sha);
+        CommitFileStats stats = cache.get(key);
+        if (stats != null || directory == null) {
+            return stats;
+        }
+
+        Set<String> stored = storedFiles(owner, repo);
+        String fileName = fileName(sha);
+        if (!stored.contains(fileName)) {
+            return null;
+        }
+        stats = JsonFileUtil.readFromFile(filePath(owner, repo, sha), CommitFileStats.class);
+        if (stats != null) {
+            cache.put(key, stats, Long.MAX_VALUE, estimatedBytes(stats));
+        } else {
+            // 목록을 만든 뒤 지워졌거나 읽을 수 없는 파일
+            stored.remove(fileName);
+        }
+        return stats;
+    }
+
+    @Override
+    public boolean contains(String owner, String repo, String sha) {
+        return cache.contains(key(owner, repo, sha))
+                || directory != null && storedFiles(owner, repo).contains(fileName(sha));
+    }
+
+    @Override
+    public void put(String owner, String repo, String sha, CommitFileStats stats) {
+        cache.put(key(owner, repo, sha), stats, Long.MAX_VALUE, estimatedBytes(stats));
+
+        if (directory != null) {
+            try {
+                JsonFileUtil.writeToFile(filePath(owner, repo, sha), stats);
+                storedFiles(owner, repo).add(fileName(sha));
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist commit detail {}/{}@{}: {}", owner, repo, sha, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    private static long estimatedBytes(CommitFileStats stats) {
+        return COMMIT_BYTES + FILE_BYTES * (stats.getFiles() != null ? stats.getFiles().size() : 0);
+    }
+
+    private static String key(String owner, String repo, String sha) {
+        return "commit:" + owner + "/" + repo + "@" + sha;
+    }
+
+    /**
+     * 레포지토리의 디스크 저장 목록 (처음 조회할 때 디렉토리를 한 번 읽음)
+     */
+    private Set<String> storedFiles(String owner, String repo) {
+        return storedFiles.computeIfAbsent(repoDir(owner, repo), repoDir -> {
+            Set<String> names = ConcurrentHashMap.newKeySet();
+            File[] files = Paths.get(directory, repoDir).toFile().listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+            if (files != null) {
+                for (File file : files) {
+                    names.add(file.getName());
+                }
+            }
+            return names;
+        });
+    }
+
+    // 레포지토리별 디렉토리 아래 SHA 이름 파일
+    private String filePath(String owner, String repo, String sha) {
+        return Paths.get(directory, repoDir(owner, repo), fileName(sha)).toString();
+    }
+
+    private static String repoDir(String owner, String repo) {
+        return (owner + "__" + repo).replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private static String fileName(String sha) {
+        return sha.replaceAll("[^A-Za-z0-9]", "") + FILE_SUFFIX;
+    }
+}
@@ -0,0 +1,94 @@
+package com.tally.lambda;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 봉투 기록 (직렬화 실패 시 출력 스트림에 반쯤 쓴 봉투를 남기지 않는지)
+ */
+class ProxyResponseWriterTest {
+    private static final Map<String, String> HEADERS = Map.of("Content-Type", "application/json");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ProxyResponseWriter writer = new ProxyResponseWriter(mapper, true, 64);
+
+    @Test
+    void writesJsonBodyAsEscapedString() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(LambdaResponse.json(200, HEADERS, Map.of("name", "a\"b")), out, false);
+
+        JsonNode envelope = mapper.readTree(out.toByteArray());
+        assertEquals(200, envelope.get("statusCode").asInt());
+        assertFalse(envelope.get("isBase64Encoded").asBoolean());
+        assertEquals("a\"b", mapper.readTree(envelope.get("body").asText()).get("name").asText());
+    }
+
+    @Test
+    void bodyThatFailsDuringSerializationLeavesOutputUntouched() throws Exception {
+        // gzip 임계값을 넘겨 압축 스트림으로 전환된 뒤에 실패하도록 앞에 큰 항목을 둠
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(Map.of("index", i));
+        }
+        items.add(new FailingBean());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (boolean acceptsGzip : new boolean[]{true, false}) {
+            assertThrows(IOException.class,
+                    () -> writer.write(LambdaResponse.json(200, HEADERS, items), out, acceptsGzip));
+            assertEquals(0, out.size());
+        }
+
+        // 같은 스트림에 대체 응답을 쓰면 온전한 봉투 하나만 남음
+        writer.write(LambdaResponse.json(500, HEADERS, Map.of("error", "Internal Server Error")), out, false);
+        JsonNode envelope = mapper.readTree(out.toByteArray());
+        assertEquals(500, envelope.get("statusCode").asInt());
+        assertEquals("Internal Server Error", mapper.readTree(envelope.get("body").asText()).get("error").asText());
+    }
+
+    @Test
+    void binaryBodyThatFailsWhileRenderingLeavesOutputUntouched() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LambdaResponse response = LambdaResponse.binary(200, HEADERS, target -> {
+            target.write(new byte[16 * 1024]);
+            throw new IOException("renderer failed");
+        });
+
+        assertThrows(IOException.class, () -> writer.write(response, out, false));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void largeBodyIsGzippedForClientsThatAcceptIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ProxyResponseWriter.Written written = writer.write(
+                LambdaResponse.json(200, HEADERS, Map.of("text", "x".repeat(1000))), out, true);
+
+        JsonNode envelope = mapper.readTree(out.toByteArray());
+        assertTrue(written.isCompressed());
+        assertTrue(envelope.get("isBase64Encoded").asBoolean());
+        assertEquals("gzip", envelope.get("headers").get("Content-Encoding").asText());
+        assertEquals(out.size(), written.getWireBytes());
+    }
+
+    /**
+     * 직렬화 중 getter에서 예외를 던지는 본문
+     */
+    public static class FailingBean {
+        public String getValue() {
+            throw new IllegalStateException("serialization failed");
+        }
+    }
+}
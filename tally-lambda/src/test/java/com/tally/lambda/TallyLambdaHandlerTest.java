@@ -0,0 +1,70 @@
+package com.tally.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 라우팅과 요청 값 검증 (GitHub 호출 전에 끝나는 경로만 - 네트워크 사용 안 함)
+ */
+class TallyLambdaHandlerTest {
+    private static TallyLambdaHandler handler;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeAll
+    static void createHandler() {
+        handler = new TallyLambdaHandler();
+    }
+
+    @Test
+    void rejectsNonIntegerQueryParameterWith400NamingIt() throws Exception {
+        APIGatewayProxyResponseEvent response = handler.handleRequest(
+                get("/organizations/acme/stats", Map.of("username", "alice", "top", "ten")), new StubContext());
+
+        assertEquals(400, response.getStatusCode());
+        Map<?, ?> body = mapper.readValue(response.getBody(), Map.class);
+        assertEquals("Invalid query parameter 'top': expected an integer but was 'ten'", body.get("error"));
+    }
+
+    @Test
+    void unknownPathIs404AndWrongMethodIs405() {
+        assertEquals(404, handler.handleRequest(get("/nope", null), new StubContext()).getStatusCode());
+
+        APIGatewayProxyRequestEvent post = get("/organizations/acme/stats", null).withHttpMethod("POST");
+        APIGatewayProxyResponseEvent response = handler.handleRequest(post, new StubContext());
+        assertEquals(405, response.getStatusCode());
+        assertEquals("GET", response.getHeaders().get("Allow"));
+    }
+
+    @Test
+    void batchReportRejectsMoreTargetsThanFitInALambdaResponse() throws Exception {
+        StringBuilder targets = new StringBuilder();
+        for (int i = 0; i <= TallyLambdaHandler.MAX_BATCH_TARGETS; i++) {
+            targets.append(i == 0 ? "" : ",").append("{\"owner\":\"acme\",\"repo\":\"widget\",\"username\":\"user").append(i).append("\"}");
+        }
+        APIGatewayProxyRequestEvent post = get("/reports/batch", null)
+                .withHttpMethod("POST")
+                .withBody("{\"targets\":[" + targets + "]}");
+
+        APIGatewayProxyResponseEvent response = handler.handleRequest(post, new StubContext());
+
+        assertEquals(400, response.getStatusCode());
+        Map<?, ?> body = mapper.readValue(response.getBody(), Map.class);
+        assertTrue(body.get("error").toString().contains(String.valueOf(TallyLambdaHandler.MAX_BATCH_TARGETS)));
+    }
+
+    private static APIGatewayProxyRequestEvent get(String path, Map<String, String> query) {
+        return new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath(path)
+                .withHeaders(Map.of("Authorization", "Bearer test-token"))
+                .withQueryStringParameters(query);
+    }
+}
@@ -0,0 +1,60 @@
+package com.tally.lambda;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스트리밍 진입점 (실패해도 유효한 프록시 응답 봉투를 돌려주는지, Accept-Encoding 해석)
+ */
+class TallyStreamHandlerTest {
+    private static TallyStreamHandler streamHandler;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeAll
+    static void createHandler() {
+        streamHandler = new TallyStreamHandler(new TallyLambdaHandler());
+    }
+
+    @Test
+    void malformedEventIsAnswered500() throws Exception {
+        JsonNode envelope = invoke("{\"httpMethod\": \"GET\", \"path\": ");
+
+        assertEquals(500, envelope.get("statusCode").asInt());
+        assertEquals("Internal Server Error", mapper.readTree(envelope.get("body").asText()).get("error").asText());
+        assertEquals("*", envelope.get("headers").get("Access-Control-Allow-Origin").asText());
+    }
+
+    @Test
+    void routedRequestIsWrittenAsEnvelope() throws Exception {
+        JsonNode envelope = invoke("{\"httpMethod\": \"GET\", \"path\": \"/health\"}");
+
+        assertEquals(200, envelope.get("statusCode").asInt());
+        assertEquals("ok", mapper.readTree(envelope.get("body").asText()).get("status").asText());
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityValues() {
+        assertTrue(TallyStreamHandler.acceptsGzip(Map.of("accept-encoding", "gzip, deflate")));
+        assertTrue(TallyStreamHandler.acceptsGzip(Map.of("Accept-Encoding", "*")));
+        assertFalse(TallyStreamHandler.acceptsGzip(Map.of("Accept-Encoding", "gzip;q=0, *")));
+        assertFalse(TallyStreamHandler.acceptsGzip(Map.of("Accept-Encoding", "br")));
+        assertFalse(TallyStreamHandler.acceptsGzip(null));
+    }
+
+    private JsonNode invoke(String event) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamHandler.handleRequest(new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)), out, new StubContext());
+        return mapper.readTree(out.toByteArray());
+    }
+}
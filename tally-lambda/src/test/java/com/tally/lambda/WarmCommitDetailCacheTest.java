@@ -0,0 +1,70 @@
+package com.tally.lambda;
+
+import com.tally.dto.CommitFileStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 커밋 상세 캐시의 디스크 저장 목록 (콜드 스타트 후 /tmp에 남은 파일 인식)
+ */
+class WarmCommitDetailCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void coldStartFindsDetailsPersistedByPreviousContainer() {
+        new WarmCommitDetailCache(new WarmCache(10), directory.toString()).put("acme", "widget", "abc123", stats(7));
+
+        // 새 컨테이너: 메모리는 비어 있고 /tmp 파일만 남음
+        WarmCommitDetailCache cache = new WarmCommitDetailCache(new WarmCache(10), directory.toString());
+        assertTrue(cache.contains("acme", "widget", "abc123"));
+        assertFalse(cache.contains("acme", "widget", "def456"));
+        assertFalse(cache.contains("acme", "other", "abc123"));
+
+        CommitFileStats loaded = cache.get("acme", "widget", "abc123");
+        assertNotNull(loaded);
+        assertEquals(7, loaded.getAdditions());
+        assertNull(cache.get("acme", "widget", "def456"));
+    }
+
+    @Test
+    void detailsStoredAfterTheDirectoryWasListedAreFound() {
+        WarmCommitDetailCache cache = new WarmCommitDetailCache(new WarmCache(10), directory.toString());
+        assertFalse(cache.contains("acme", "widget", "abc123"));
+
+        cache.put("acme", "widget", "abc123", stats(3));
+
+        WarmCommitDetailCache other = new WarmCommitDetailCache(new WarmCache(10), directory.toString());
+        assertFalse(other.contains("acme", "widget", "def456"));
+        assertTrue(other.contains("acme", "widget", "abc123"));
+    }
+
+    @Test
+    void fileRemovedAfterListingIsTreatedAsMiss() throws Exception {
+        new WarmCommitDetailCache(new WarmCache(10), directory.toString()).put("acme", "widget", "abc123", stats(1));
+        WarmCommitDetailCache cache = new WarmCommitDetailCache(new WarmCache(10), directory.toString());
+        assertTrue(cache.contains("acme", "widget", "abc123"));
+
+        Files.delete(directory.resolve("acme__widget").resolve("abc123.json"));
+
+        assertNull(cache.get("acme", "widget", "abc123"));
+        assertFalse(cache.contains("acme", "widget", "abc123"));
+    }
+
+    private static CommitFileStats stats(int additions) {
+        CommitFileStats stats = new CommitFileStats();
+        stats.setSha("abc123");
+        stats.setAdditions(additions);
+        return stats;
+    }
+}